@@ -0,0 +1,66 @@
+package org.example.backend.benchmark;
+
+import org.example.backend.domain.answer.Answer;
+import org.example.backend.domain.question.Question;
+import org.example.backend.dto.response.AnswerResponseDto;
+import org.example.backend.dto.response.QuestionResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> 응답 DTO 변환 (질문 상세: 답변 정렬/필터 + 태그 이름 변환 포함)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "50"})
+    private int answerCount;
+
+    @Param({"5"})
+    private int tagCount;
+
+    private Question question;
+    private Answer answer;
+
+    @Setup
+    public void setUp() {
+        question = Fixtures.question(1L, answerCount, tagCount);
+        answer = question.getAnswers().get(0);
+    }
+
+    @Benchmark
+    public QuestionResponseDto questionFromEntity() {
+        return QuestionResponseDto.fromEntity(question, 45L, 1234);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public AnswerResponseDto answerFromEntity() {
+        return AnswerResponseDto.fromEntity(answer);
+    }
+
+    // 답변 목록 API처럼 답변마다 따로 변환
+    @Benchmark
+    public void answersFromEntity(Blackhole blackhole) {
+        for (Answer each : question.getAnswers()) {
+            blackhole.consume(AnswerResponseDto.fromEntity(each));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.backend.benchmark;
+
+import org.example.backend.domain.answer.Answer;
+import org.example.backend.domain.answer.AnswerTag;
+import org.example.backend.domain.category.Category;
+import org.example.backend.domain.member.Member;
+import org.example.backend.domain.question.Question;
+import org.example.backend.domain.question.QuestionTag;
+import org.example.backend.domain.tag.Tag;
+import org.example.backend.dto.response.QuestionSummaryDto;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 객체 그래프
+ * 운영 데이터와 비슷한 크기(본문 수백 자, 답변 수십 개, 질문/답변마다 태그 몇 개)로 만들고,
+ * id/생성일시처럼 DB가 채우는 필드는 리플렉션으로 채웁니다.
+ */
+final class Fixtures {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final String PARAGRAPH =
+            "스프링 부트에서 JPA 지연 로딩을 사용할 때 트랜잭션 밖에서 연관 엔티티에 접근하면 예외가 발생합니다. "
+            + "DTO 변환 시점과 fetch join, batch size 설정을 함께 확인해 주세요. ";
+
+    private Fixtures() {
+    }
+
+    // 답변 answerCount개 (그중 10개마다 하나는 삭제된 답변), 질문/답변마다 태그 tagCount개
+    static Question question(long id, int answerCount, int tagCount) {
+        Category category = withId(new Category("백엔드"), 1L);
+        Member author = member(1L);
+
+        Question question = new Question();
+        question.setId(id);
+        question.setTitle("JPA 지연 로딩과 DTO 변환 질문 " + id);
+        question.setContent(PARAGRAPH.repeat(4));
+        question.setViewCount(1234);
+        question.setUniqueViewCount(321);
+        question.setCreatedAt(BASE_TIME);
+        question.setModifiedAt(BASE_TIME.plusHours(1));
+        question.setMember(author);
+        question.setCategory(category);
+
+        List<Tag> tags = tags(tagCount);
+        for (Tag tag : tags) {
+            QuestionTag questionTag = new QuestionTag();
+            questionTag.setTag(tag);
+            question.addQuestionTag(questionTag);
+        }
+
+        for (int i = 0; i < answerCount; i++) {
+            question.getAnswers().add(answer(id * 1000 + i, question, member(2L + i % 7), tags, i));
+        }
+        return question;
+    }
+
+    static Answer answer(long id, Question question, Member member, List<Tag> tags, int order) {
+        Answer answer = withId(new Answer(PARAGRAPH.repeat(2), question, member), id);
+        set(answer, "createdAt", BASE_TIME.plusMinutes(order));
+        set(answer, "modifiedAt", BASE_TIME.plusMinutes(order));
+        for (Tag tag : tags.subList(0, Math.min(2, tags.size()))) {
+            AnswerTag answerTag = new AnswerTag();
+            answerTag.setTag(tag);
+            answer.addAnswerTag(answerTag);
+        }
+        if (order % 10 == 9) {
+            answer.delete();
+        }
+        return answer;
+    }
+
+    static List<Tag> tags(int count) {
+        List<Tag> tags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tags.add(withId(new Tag("태그" + i), (long) i + 1));
+        }
+        return tags;
+    }
+
+    static Member member(long id) {
+        return withId(Member.create("user" + id + "@example.com", "{bcrypt}hash", "회원" + id), id);
+    }
+
+    // 목록 화면 한 페이지 분량의 요약
+    static List<QuestionSummaryDto> summaries(int size, int tagCount) {
+        List<String> tagNames = tags(tagCount).stream().map(Tag::getName).toList();
+        List<QuestionSummaryDto> summaries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            summaries.add(new QuestionSummaryDto(
+                    (long) i + 1, "JPA 지연 로딩과 DTO 변환 질문 " + i, PARAGRAPH.repeat(2).substring(0, 150),
+                    1234, 321, 12, 45, BASE_TIME.minusMinutes(i),
+                    1L, "회원1", 1L, "백엔드", tagNames));
+        }
+        return summaries;
+    }
+
+    private static <T> T withId(T entity, Long id) {
+        set(entity, "id", id);
+        return entity;
+    }
+
+    private static void set(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        if (field == null) {
+            throw new IllegalStateException(target.getClass().getSimpleName() + "." + name + " 필드가 없습니다.");
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.backend.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 두 JMH JSON 결과 비교 (커밋 간 회귀 확인)
+ * ./gradlew jmhCompare --args="build/results/jmh/기준.json build/results/jmh/비교.json"
+ *
+ * 같은 벤치마크 + 파라미터끼리 점수를 비교합니다. 오차 범위(99.9%)가 겹치면 차이 없음(~)으로 표시합니다.
+ */
+public class JmhCompare {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("비교할 결과 파일 두 개를 지정하세요. (기준.json 비교.json)");
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> before = read(objectMapper, Path.of(args[0]));
+        Map<String, JsonNode> after = read(objectMapper, Path.of(args[1]));
+
+        System.out.printf("%-70s %16s %16s %10s%n", "benchmark", "before", "after", "change");
+        for (Map.Entry<String, JsonNode> entry : before.entrySet()) {
+            JsonNode b = after.get(entry.getKey());
+            if (b == null) {
+                continue;
+            }
+            JsonNode a = entry.getValue();
+            double scoreA = a.path("score").asDouble();
+            double scoreB = b.path("score").asDouble();
+            double errorA = a.path("scoreError").asDouble(0);
+            double errorB = b.path("scoreError").asDouble(0);
+            boolean overlaps = Math.abs(scoreB - scoreA) <= errorA + errorB;
+            double change = scoreA == 0 ? 0 : (scoreB - scoreA) / scoreA * 100;
+
+            System.out.printf(Locale.ROOT, "%-70s %16s %16s %+9.1f%%%s%n", entry.getKey(),
+                    format(scoreA, a), format(scoreB, b), change, overlaps ? " ~" : "");
+        }
+    }
+
+    // "클래스.메서드 (파라미터)" -> primaryMetric
+    private static Map<String, JsonNode> read(ObjectMapper objectMapper, Path file) throws IOException {
+        Map<String, JsonNode> result = new LinkedHashMap<>();
+        for (JsonNode run : objectMapper.readTree(file.toFile())) {
+            String benchmark = run.path("benchmark").asText();
+            StringBuilder key = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1));
+            JsonNode params = run.path("params");
+            if (!params.isMissingNode() && !params.isEmpty()) {
+                key.append(" (");
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> param = fields.next();
+                    key.append(param.getKey()).append('=').append(param.getValue().asText());
+                    if (fields.hasNext()) {
+                        key.append(", ");
+                    }
+                }
+                key.append(')');
+            }
+            result.put(key.toString(), run.path("primaryMetric"));
+        }
+        return result;
+    }
+
+    private static String format(double score, JsonNode metric) {
+        return String.format(Locale.ROOT, "%.3f %s", score, metric.path("scoreUnit").asText());
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.backend.dto.response.CursorSliceDto;
+import org.example.backend.dto.response.QuestionResponseDto;
+import org.example.backend.dto.response.QuestionSummaryDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록(커서 페이지)과 상세 응답의 JSON 직렬화
+ * ObjectMapper는 Spring Boot 기본 설정과 같게 만듭니다 (JavaTimeModule, 날짜를 ISO 문자열로).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"20"})
+    private int pageSize;
+
+    @Param({"10", "50"})
+    private int answerCount;
+
+    private ObjectMapper objectMapper;
+    private CursorSliceDto<QuestionSummaryDto> page;
+    private QuestionResponseDto detail;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        List<QuestionSummaryDto> summaries = Fixtures.summaries(pageSize, 3);
+        page = new CursorSliceDto<>(summaries, "MTczNTY5MDQwMDAwMDoxMjM", true, summaries.size());
+        detail = QuestionResponseDto.fromEntity(Fixtures.question(1L, answerCount, 5), 45L, 1234);
+    }
+
+    @Benchmark
+    public byte[] listPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] questionDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(detail);
+    }
+}
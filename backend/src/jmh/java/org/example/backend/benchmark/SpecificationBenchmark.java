@@ -0,0 +1,122 @@
+package org.example.backend.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.example.backend.domain.answer.Answer;
+import org.example.backend.domain.answer.AnswerTag;
+import org.example.backend.domain.category.Category;
+import org.example.backend.domain.member.Member;
+import org.example.backend.domain.question.Question;
+import org.example.backend.domain.question.QuestionLike;
+import org.example.backend.domain.question.QuestionTag;
+import org.example.backend.domain.question.QuestionViewSketch;
+import org.example.backend.domain.stats.DailyCategoryStat;
+import org.example.backend.domain.stats.DailyTagStat;
+import org.example.backend.domain.tag.Tag;
+import org.example.backend.dto.response.QuestionCountDto;
+import org.example.backend.dto.response.QuestionSummaryDto;
+import org.example.backend.repository.QuestionQueryRepositoryImpl;
+import org.example.backend.repository.QuestionSpecification;
+import org.example.backend.search.SearchSpecificationCompiler;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 질문 목록 검색 조건(Specification) 조합과 Criteria 쿼리 변환
+ * - specification: QuestionService와 같은 QuestionSpecification.forList로 조건을 조합하고 Predicate까지 생성
+ * - summaryQuery / countQuery: 목록 요약/질문 수 Criteria 쿼리를 SQL로 변환해 빈 H2(MySQL 모드)에서 실행
+ *   (Criteria 쿼리는 쿼리 계획 캐시를 쓰지 않으므로 매번 SQL 변환이 일어나고, 빈 테이블이라 실행 비용은 작음)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpecificationBenchmark {
+
+    // 태그 포함/제외와 작성자 조건을 함께 쓰는 검색어 (검색어 색인과 카테고리 캐시를 쓰지 않는 조건만 사용)
+    private static final String SEARCH = "#스프링 #JPA -#레거시 author:회원1";
+    private static final Sort SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    private static final List<Class<?>> ENTITIES = List.of(
+            Question.class, QuestionLike.class, QuestionTag.class, QuestionViewSketch.class,
+            Answer.class, AnswerTag.class, Member.class, Category.class, Tag.class,
+            DailyCategoryStat.class, DailyTagStat.class);
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private SearchSpecificationCompiler compiler;
+    private QuestionQueryRepositoryImpl repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Configuration configuration = new Configuration()
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:jmh;MODE=MySQL;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy());
+        ENTITIES.forEach(configuration::addAnnotatedClass);
+        sessionFactory = configuration.buildSessionFactory();
+        entityManager = sessionFactory.createEntityManager();
+
+        compiler = new SearchSpecificationCompiler(null, null);
+        repository = new QuestionQueryRepositoryImpl();
+        Field field = ReflectionUtils.findField(QuestionQueryRepositoryImpl.class, "entityManager");
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, repository, entityManager);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate specification() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Question> query = cb.createQuery(Question.class);
+        Root<Question> root = query.from(Question.class);
+        return createSpecification().toPredicate(root, query, cb);
+    }
+
+    @Benchmark
+    public List<QuestionSummaryDto> summaryQuery() {
+        return repository.findSummaries(createSpecification(), SORT, 21);
+    }
+
+    @Benchmark
+    public QuestionCountDto countQuery() {
+        return repository.countByAnswerState(createSpecification());
+    }
+
+    // QuestionService.createSpecification(category, tag, status, search)와 같은 조합 (카테고리 ID는 캐시 대신 고정값)
+    private Specification<Question> createSpecification() {
+        return QuestionSpecification.forList(compiler.compile(SEARCH), QuestionSpecification.equalCategoryId(1L),
+                "자바", "ANSWERED");
+    }
+}
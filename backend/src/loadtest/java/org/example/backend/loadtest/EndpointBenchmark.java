@@ -0,0 +1,229 @@
+package org.example.backend.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 질문 목록/상세 엔드포인트 부하 측정
+ * 실행 중인 서버에 고정된 수의 동시 사용자(closed loop)로 요청을 보내고 엔드포인트별 처리량과 p50/p99를 기록합니다.
+ *
+ * 플랫폼 스레드와 가상 스레드 비교:
+ * 1. 서버 실행 (기본)                           -> ./gradlew endpointBenchmark --args="--label=platform"
+ * 2. 서버 실행 (--spring.profiles.active=virtual) -> ./gradlew endpointBenchmark --args="--label=virtual"
+ * 3. ./gradlew endpointBenchmark --args="--compare=build/benchmark/platform.json,build/benchmark/virtual.json"
+ *
+ * 옵션: --base-url, --label, --concurrency, --warmup-s, --duration-s, --page-size, --out, --compare
+ */
+public class EndpointBenchmark {
+
+    private static final String API = "/api/knowledgeout/questions";
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final int pageSize;
+    private final long[] questionIds;
+
+    private EndpointBenchmark(String baseUrl, int pageSize, HttpClient client) throws IOException, InterruptedException {
+        this.baseUrl = baseUrl;
+        this.pageSize = pageSize;
+        this.client = client;
+        this.questionIds = loadQuestionIds();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+
+        if (options.containsKey("compare")) {
+            String[] files = options.get("compare").split(",");
+            if (files.length != 2) {
+                throw new IllegalArgumentException("--compare=기준.json,비교.json 형식으로 지정하세요.");
+            }
+            compare(Path.of(files[0].trim()), Path.of(files[1].trim()));
+            return;
+        }
+
+        String label = options.getOrDefault("label", "run");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-s", "10"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration-s", "30"));
+        Path out = Path.of(options.getOrDefault("out", "build/benchmark/" + label + ".json"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        EndpointBenchmark benchmark = new EndpointBenchmark(
+                options.getOrDefault("base-url", "http://localhost:8080"),
+                Integer.parseInt(options.getOrDefault("page-size", "10")),
+                client);
+
+        System.out.printf("워밍업 %ds (동시 사용자 %d)%n", warmupSeconds, concurrency);
+        benchmark.run(concurrency, warmupSeconds);
+
+        System.out.printf("측정 %ds (동시 사용자 %d)%n", durationSeconds, concurrency);
+        Map<String, LatencyStats> result = benchmark.run(concurrency, durationSeconds);
+
+        result.forEach((endpoint, stats) -> System.out.println(stats.summary(endpoint)));
+        write(out, label, concurrency, durationSeconds, result);
+        System.out.println("결과: " + out.toAbsolutePath());
+    }
+
+    // 목록 요청과 상세 요청을 번갈아 보내며 엔드포인트별 지연 시간을 수집
+    private Map<String, LatencyStats> run(int concurrency, int seconds) throws InterruptedException {
+        LatencyStats list = new LatencyStats(seconds);
+        LatencyStats detail = new LatencyStats(seconds);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                users.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (running.get()) {
+                        if (random.nextBoolean()) {
+                            call(list, listUri(random.nextInt(5)));
+                        } else {
+                            call(detail, URI.create(baseUrl + API + "/" + questionIds[random.nextInt(questionIds.length)]));
+                        }
+                    }
+                });
+            }
+            Thread.sleep(seconds * 1000L);
+            running.set(false);
+        }
+
+        Map<String, LatencyStats> result = new LinkedHashMap<>();
+        result.put("GET " + API, list);
+        result.put("GET " + API + "/{id}", detail);
+        return result;
+    }
+
+    private void call(LatencyStats stats, URI uri) {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            stats.record(System.nanoTime() - start, response.statusCode() < 400);
+        } catch (IOException e) {
+            stats.record(System.nanoTime() - start, false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private URI listUri(int page) {
+        return URI.create(baseUrl + API + "?page=" + page + "&size=" + pageSize + "&sort=createdAt,desc");
+    }
+
+    private long[] loadQuestionIds() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + API + "?page=0&size=100")).GET().build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("질문 목록을 불러오지 못했습니다. (HTTP " + response.statusCode() + ")");
+        }
+        // 질문 id 외에 작성자/카테고리 id도 섞여 있으므로 실제 상세 조회가 되는 id만 사용
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = ID.matcher(response.body());
+        while (matcher.find()) {
+            long id = Long.parseLong(matcher.group(1));
+            if (!ids.contains(id) && exists(id)) {
+                ids.add(id);
+            }
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("측정할 질문이 없습니다. 테스트 데이터를 먼저 넣어주세요.");
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private boolean exists(long id) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + API + "/" + id)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    }
+
+    private static void write(Path out, String label, int concurrency, int seconds, Map<String, LatencyStats> result) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"label\": \"").append(label).append("\",\n")
+                .append("  \"concurrency\": ").append(concurrency).append(",\n")
+                .append("  \"durationSeconds\": ").append(seconds).append(",\n")
+                .append("  \"endpoints\": [\n");
+        int i = 0;
+        for (Map.Entry<String, LatencyStats> entry : result.entrySet()) {
+            LatencyStats stats = entry.getValue();
+            json.append(String.format(Locale.ROOT,
+                    "    {\"endpoint\": \"%s\", \"requests\": %d, \"errors\": %d, \"throughput\": %.1f, \"p50Ms\": %.2f, \"p99Ms\": %.2f}%s%n",
+                    entry.getKey(), stats.count(), stats.errors(), stats.throughput(),
+                    stats.percentileMs(0.50), stats.percentileMs(0.99), ++i < result.size() ? "," : ""));
+        }
+        json.append("  ]\n}\n");
+
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        Files.writeString(out, json);
+    }
+
+    // write()가 만든 형식만 읽으면 되므로 JSON 라이브러리 없이 정규식으로 파싱
+    private static void compare(Path base, Path target) throws IOException {
+        Map<String, double[]> before = read(base);
+        Map<String, double[]> after = read(target);
+
+        System.out.printf("%-40s %22s %22s %22s%n", "endpoint", "throughput (req/s)", "p50 (ms)", "p99 (ms)");
+        for (Map.Entry<String, double[]> entry : before.entrySet()) {
+            double[] a = entry.getValue();
+            double[] b = after.get(entry.getKey());
+            if (b == null) {
+                continue;
+            }
+            System.out.printf(Locale.ROOT, "%-40s %22s %22s %22s%n", entry.getKey(),
+                    diff(a[0], b[0]), diff(a[1], b[1]), diff(a[2], b[2]));
+        }
+    }
+
+    private static Map<String, double[]> read(Path file) throws IOException {
+        Pattern endpoint = Pattern.compile(
+                "\"endpoint\": \"([^\"]+)\".*?\"throughput\": ([\\d.]+), \"p50Ms\": ([\\d.]+), \"p99Ms\": ([\\d.]+)");
+        Map<String, double[]> result = new LinkedHashMap<>();
+        Matcher matcher = endpoint.matcher(Files.readString(file));
+        while (matcher.find()) {
+            result.put(matcher.group(1), new double[]{
+                    Double.parseDouble(matcher.group(2)),
+                    Double.parseDouble(matcher.group(3)),
+                    Double.parseDouble(matcher.group(4))});
+        }
+        return result;
+    }
+
+    private static String diff(double before, double after) {
+        double change = before == 0 ? 0 : (after - before) / before * 100;
+        return String.format(Locale.ROOT, "%.1f -> %.1f (%+.0f%%)", before, after, change);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+}
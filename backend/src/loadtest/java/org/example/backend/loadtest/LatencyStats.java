@@ -0,0 +1,63 @@
+package org.example.backend.loadtest;
+
+import java.util.Locale;
+
+/**
+ * 엔드포인트별 지연 시간 기록 (0.1ms 단위 히스토그램, 60초 이상은 마지막 칸)
+ */
+final class LatencyStats {
+
+    private static final int BUCKETS = 600_000;
+
+    private final long[] histogram = new long[BUCKETS + 1];
+    private final int seconds;
+    private long count;
+    private long errors;
+    private long maxNanos;
+
+    LatencyStats(int seconds) {
+        this.seconds = seconds;
+    }
+
+    synchronized void record(long nanos, boolean success) {
+        if (!success) {
+            errors++;
+        }
+        histogram[(int) Math.min(BUCKETS, nanos / 100_000)]++;
+        maxNanos = Math.max(maxNanos, nanos);
+        count++;
+    }
+
+    synchronized long count() {
+        return count;
+    }
+
+    synchronized long errors() {
+        return errors;
+    }
+
+    double throughput() {
+        return (double) count() / seconds;
+    }
+
+    synchronized double maxMs() {
+        return maxNanos / 1_000_000.0;
+    }
+
+    synchronized double percentileMs(double percentile) {
+        long rank = (long) Math.ceil(count * percentile);
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank && seen > 0) {
+                return i / 10.0;
+            }
+        }
+        return 0;
+    }
+
+    String summary(String endpoint) {
+        return String.format(Locale.ROOT, "%-40s %8d req  %6d err  %9.1f req/s  p50 %7.2f ms  p99 %7.2f ms",
+                endpoint, count(), errors(), throughput(), percentileMs(0.50), percentileMs(0.99));
+    }
+}
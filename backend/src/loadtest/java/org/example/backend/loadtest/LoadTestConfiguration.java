@@ -0,0 +1,57 @@
+package org.example.backend.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.backend.support.SqlCapture;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * loadtest 프로필 전용 설정 (LoadTestRunner가 띄운 애플리케이션에서만 사용)
+ * 부하 클라이언트가 X-Loadtest-Endpoint 헤더로 보낸 엔드포인트 이름별로 SQL 실행 횟수를 집계합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("loadtest")
+class LoadTestConfiguration {
+
+    static final String ENDPOINT_HEADER = "X-Loadtest-Endpoint";
+
+    @Bean
+    StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    // 인증 필터보다 먼저 시작해서 로그인/세션 조회 쿼리도 요청에 포함
+    @Bean
+    FilterRegistrationBean<OncePerRequestFilter> statementCountingFilter(StatementCounter statementCounter) {
+        OncePerRequestFilter filter = new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                    throws ServletException, IOException {
+                SqlCapture capture = SqlCapture.beginCounting();
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    capture.close();
+                    statementCounter.record(request.getHeader(ENDPOINT_HEADER), capture.count());
+                }
+            }
+        };
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    LoadTestDataSeeder loadTestDataSeeder() {
+        return new LoadTestDataSeeder();
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.backend.loadtest;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 측정용 데이터 적재 (회원, 카테고리, 태그, 질문, 답변, 추천)
+ * ApplicationRunner는 ApplicationReadyEvent보다 먼저 실행되므로 검색 색인, 질문 수 집계, 추천 수 보정이
+ * 적재된 데이터 기준으로 만들어집니다. 같은 시드면 같은 데이터가 만들어집니다.
+ */
+class LoadTestDataSeeder implements ApplicationRunner {
+
+    static final String PASSWORD = "loadtest-password";
+    // 질문 제목/본문에 섞어 넣고 검색어로도 사용
+    static final List<String> WORDS = List.of(
+            "스프링", "JPA", "트랜잭션", "인덱스", "캐시", "가상스레드", "쿼리", "배포",
+            "리액트", "타입스크립트", "도커", "테스트", "보안", "세션", "페이지네이션", "성능");
+    private static final List<String> CATEGORIES = List.of("백엔드", "프론트엔드", "데브옵스", "데이터베이스", "기타");
+    private static final int TAGS = 40;
+    private static final LocalDateTime START = LocalDateTime.now().minusDays(180);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${knowledgeout.loadtest.members:200}")
+    private int memberCount;
+    @Value("${knowledgeout.loadtest.questions:5000}")
+    private int questionCount;
+    @Value("${knowledgeout.loadtest.max-answers:8}")
+    private int maxAnswers;
+    @Value("${knowledgeout.loadtest.seed:42}")
+    private long seed;
+
+    private volatile List<String> memberEmails = List.of();
+    private volatile long[] questionIds = new long[0];
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Random random = new Random(seed);
+
+        // 모든 회원이 같은 비밀번호 (해시는 한 번만 계산, 로그인 요청은 실제 BCrypt 검증 비용을 그대로 가짐)
+        String hash = passwordEncoder.encode(PASSWORD);
+        List<Object[]> members = new ArrayList<>();
+        List<String> emails = new ArrayList<>();
+        for (int i = 1; i <= memberCount; i++) {
+            String email = "loadtest" + i + "@example.com";
+            emails.add(email);
+            members.add(new Object[]{email, hash, "부하회원" + i, timestamp(random)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO members (email, password, nickname, role, status, created_at, modified_at) " +
+                "VALUES (?, ?, ?, 'ROLE_USER', 'ACTIVE', ?, NULL)", members);
+        long[] memberIds = ids("members");
+
+        jdbcTemplate.batchUpdate("INSERT INTO categories (name) VALUES (?)",
+                CATEGORIES.stream().map(name -> new Object[]{name}).toList());
+        long[] categoryIds = ids("categories");
+
+        List<Object[]> tags = new ArrayList<>();
+        for (int i = 0; i < TAGS; i++) {
+            tags.add(new Object[]{WORDS.get(i % WORDS.size()) + (i < WORDS.size() ? "" : String.valueOf(i))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tags (name) VALUES (?)", tags);
+        long[] tagIds = ids("tags");
+
+        List<Object[]> questions = new ArrayList<>();
+        for (int i = 0; i < questionCount; i++) {
+            // 시간순으로 넣어서 id 순서와 작성일시 순서를 맞춤
+            Timestamp createdAt = Timestamp.valueOf(START.plusMinutes((long) i * 180 * 24 * 60 / Math.max(1, questionCount)));
+            questions.add(new Object[]{
+                    word(random) + " " + word(random) + " 질문 " + i,
+                    word(random) + " 관련해서 " + word(random) + " 설정을 바꾸면 " + word(random) + " 동작이 어떻게 달라지나요? 재현 방법과 로그를 첨부합니다.",
+                    random.nextInt(500), createdAt, createdAt,
+                    memberIds[random.nextInt(memberIds.length)], categoryIds[random.nextInt(categoryIds.length)]});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO questions (title, content, view_count, unique_view_count, status, created_at, modified_at, " +
+                "member_id, category_id, like_count) VALUES (?, ?, ?, 0, FALSE, ?, ?, ?, ?, 0)", questions);
+        long[] ids = ids("questions");
+
+        List<Object[]> questionTags = new ArrayList<>();
+        List<Object[]> answers = new ArrayList<>();
+        List<Object[]> likes = new ArrayList<>();
+        for (long questionId : ids) {
+            int tagCount = 1 + random.nextInt(3);
+            int first = random.nextInt(tagIds.length);
+            for (int t = 0; t < tagCount; t++) {
+                questionTags.add(new Object[]{questionId, tagIds[(first + t) % tagIds.length]});
+            }
+            int answerCount = random.nextInt(maxAnswers + 1);
+            for (int a = 0; a < answerCount; a++) {
+                answers.add(new Object[]{"답변 " + a + ": " + word(random) + " 설정을 확인해 보세요.", questionId,
+                        memberIds[random.nextInt(memberIds.length)], timestamp(random)});
+            }
+            // 같은 회원이 두 번 추천하지 않도록 연속된 회원 구간에서 선택
+            int likeCount = random.nextInt(Math.min(10, memberIds.length) + 1);
+            int firstMember = random.nextInt(memberIds.length);
+            for (int l = 0; l < likeCount; l++) {
+                likes.add(new Object[]{memberIds[(firstMember + l) % memberIds.length], questionId, timestamp(random)});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO question_tags (question_id, tag_id) VALUES (?, ?)", questionTags);
+        jdbcTemplate.batchUpdate("INSERT INTO answers (content, question_id, member_id, created_at, modified_at, status) " +
+                "VALUES (?, ?, ?, ?, NULL, FALSE)", answers);
+        jdbcTemplate.batchUpdate("INSERT INTO question_likes (member_id, question_id, created_at) VALUES (?, ?, ?)", likes);
+
+        memberEmails = List.copyOf(emails);
+        questionIds = ids;
+        System.out.printf("테스트 데이터: 회원 %d, 질문 %d, 답변 %d, 추천 %d%n",
+                emails.size(), ids.length, answers.size(), likes.size());
+    }
+
+    List<String> memberEmails() {
+        return memberEmails;
+    }
+
+    long[] questionIds() {
+        return questionIds;
+    }
+
+    private long[] ids(String table) {
+        return jdbcTemplate.queryForList("SELECT id FROM " + table + " ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static String word(Random random) {
+        return WORDS.get(random.nextInt(WORDS.size()));
+    }
+
+    private static Timestamp timestamp(Random random) {
+        return Timestamp.valueOf(START.plusMinutes(random.nextInt(180 * 24 * 60)));
+    }
+}
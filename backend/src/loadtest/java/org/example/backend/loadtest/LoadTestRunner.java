@@ -0,0 +1,322 @@
+package org.example.backend.loadtest;
+
+import org.example.backend.BackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 전체 애플리케이션 부하 측정 (DB 설치 없이 실행)
+ * BackendApplication을 loadtest 프로필(메모리 H2)로 같은 JVM에서 띄우고 테스트 데이터를 적재한 뒤,
+ * 가상 스레드 클라이언트들이 목록/검색/상세/추천/답변/로그인 요청을 지정한 비율로 보냅니다.
+ * 엔드포인트별 처리량, p50/p95/p99/max, 요청당 SQL 실행 횟수를 출력하고 JSON으로 저장합니다.
+ *
+ * ./gradlew loadTest --args="--label=baseline --clients=200 --duration-s=60"
+ * ./gradlew loadTest --args="--mix=browse:60,detail:30,like:10 --spring.threads.virtual.enabled=true"
+ *
+ * 옵션: --label, --clients, --warmup-s, --duration-s, --mix, --out
+ * spring.* / server.* / knowledgeout.* 옵션은 애플리케이션 설정으로 전달 (예: --knowledgeout.loadtest.questions=20000)
+ */
+public class LoadTestRunner {
+
+    private static final String API = "/api/knowledgeout";
+    private static final String DEFAULT_MIX = "browse:40,search:10,detail:30,like:10,answer:5,login:5";
+    private static final Pattern NEXT_CURSOR = Pattern.compile("\"nextCursor\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern SESSION = Pattern.compile("JSESSIONID=([^;]+)");
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final List<String> emails;
+    private final long[] questionIds;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    private volatile Map<String, LatencyStats> stats = new ConcurrentHashMap<>();
+    private volatile int statsSeconds;
+
+    // 요청 종류 (엔드포인트 이름은 SQL 집계 키로도 사용)
+    private enum Operation {
+        BROWSE, SEARCH, DETAIL, LIKE, ANSWER, LOGIN
+    }
+
+    // 가상 사용자 한 명의 상태 (세션 쿠키, 목록 다음 페이지 커서)
+    private static final class User {
+        private final String email;
+        private String session;
+        private String cursor;
+
+        private User(String email) {
+            this.email = email;
+        }
+    }
+
+    private LoadTestRunner(String baseUrl, List<String> emails, long[] questionIds, Map<Operation, Integer> mix) {
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.baseUrl = baseUrl;
+        this.emails = emails;
+        this.questionIds = questionIds;
+        this.operations = mix.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += mix.get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        Map<String, Object> properties = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (key.startsWith("spring.") || key.startsWith("server.") || key.startsWith("knowledgeout.")) {
+                properties.put(key, value);
+            } else {
+                options.put(key, value);
+            }
+        }
+
+        String label = options.getOrDefault("label", "loadtest");
+        int clients = Integer.parseInt(options.getOrDefault("clients", "100"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-s", "10"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration-s", "30"));
+        Map<Operation, Integer> mix = parseMix(options.getOrDefault("mix", DEFAULT_MIX));
+        Path out = Path.of(options.getOrDefault("out", "build/loadtest/" + label + ".json"));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("loadtest")
+                .properties(properties)
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            LoadTestDataSeeder seeder = context.getBean(LoadTestDataSeeder.class);
+            StatementCounter statementCounter = context.getBean(StatementCounter.class);
+
+            LoadTestRunner runner = new LoadTestRunner("http://localhost:" + port + API,
+                    seeder.memberEmails(), seeder.questionIds(), mix);
+
+            System.out.printf("워밍업 %ds (클라이언트 %d, 비율 %s)%n", warmupSeconds, clients, mix);
+            runner.run(clients, warmupSeconds);
+            statementCounter.reset();
+
+            System.out.printf("측정 %ds%n", durationSeconds);
+            Map<String, LatencyStats> result = runner.run(clients, durationSeconds);
+            Map<String, StatementCounter.Totals> statements = statementCounter.snapshot();
+
+            printSummary(result, statements, statementCounter.background());
+            write(out, label, clients, durationSeconds, mix, result, statements, statementCounter.background());
+            System.out.println("결과: " + out.toAbsolutePath());
+        }
+    }
+
+    private Map<String, LatencyStats> run(int clients, int seconds) throws InterruptedException {
+        stats = new ConcurrentHashMap<>();
+        statsSeconds = seconds;
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                User user = new User(emails.get(i % emails.size()));
+                users.submit(() -> {
+                    login(user);
+                    while (running.get()) {
+                        perform(user, next());
+                    }
+                });
+            }
+            Thread.sleep(seconds * 1000L);
+            running.set(false);
+        }
+
+        return new TreeMap<>(stats);
+    }
+
+    private Operation next() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private void perform(User user, Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long questionId = questionIds[random.nextInt(questionIds.length)];
+        switch (operation) {
+            case BROWSE -> {
+                // 첫 페이지부터 몇 페이지 넘겨 보다가 다시 처음으로
+                String path = "/questions/cursor?size=20" + (user.cursor != null
+                        ? "&cursor=" + URLEncoder.encode(user.cursor, StandardCharsets.UTF_8) : "");
+                HttpResponse<String> response = send(user, "GET /questions/cursor", get(path));
+                Matcher matcher = response != null ? NEXT_CURSOR.matcher(response.body()) : null;
+                user.cursor = matcher != null && matcher.find() && random.nextInt(4) != 0 ? matcher.group(1) : null;
+            }
+            case SEARCH -> {
+                String keyword = LoadTestDataSeeder.WORDS.get(random.nextInt(LoadTestDataSeeder.WORDS.size()));
+                send(user, "GET /questions/search",
+                        get("/questions/search?q=" + URLEncoder.encode(keyword, StandardCharsets.UTF_8) + "&limit=20"));
+            }
+            case DETAIL -> send(user, "GET /questions/{id}",
+                    get("/questions/" + questionId + "?answerSize=20").header("Accept-Encoding", "gzip"));
+            case LIKE -> {
+                boolean like = random.nextBoolean();
+                HttpRequest.Builder request = request("/questions/" + questionId + "/likes");
+                send(user, (like ? "PUT" : "DELETE") + " /questions/{id}/likes", like
+                        ? request.PUT(HttpRequest.BodyPublishers.noBody())
+                        : request.DELETE());
+            }
+            case ANSWER -> send(user, "POST /questions/{id}/answers", json("/questions/" + questionId + "/answers",
+                    "{\"content\":\"부하 측정 답변입니다. 설정을 다시 확인해 보세요.\",\"tagNames\":[]}"));
+            case LOGIN -> login(user);
+        }
+    }
+
+    private void login(User user) {
+        HttpResponse<String> response = send(null, "POST /members/login", json("/members/login",
+                "{\"email\":\"" + user.email + "\",\"password\":\"" + LoadTestDataSeeder.PASSWORD + "\"}"));
+        if (response == null) {
+            return;
+        }
+        response.headers().allValues("Set-Cookie").stream()
+                .map(SESSION::matcher)
+                .filter(Matcher::find)
+                .findFirst()
+                .ifPresent(matcher -> user.session = matcher.group(1));
+    }
+
+    private HttpResponse<String> send(User user, String endpoint, HttpRequest.Builder builder) {
+        builder.header(LoadTestConfiguration.ENDPOINT_HEADER, endpoint).timeout(Duration.ofSeconds(30));
+        if (user != null && user.session != null) {
+            builder.header("Cookie", "JSESSIONID=" + user.session);
+        }
+        LatencyStats endpointStats = stats.computeIfAbsent(endpoint, key -> new LatencyStats(statsSeconds));
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            endpointStats.record(System.nanoTime() - start, response.statusCode() < 400);
+            return response;
+        } catch (IOException e) {
+            endpointStats.record(System.nanoTime() - start, false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path));
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return request(path).GET();
+    }
+
+    private HttpRequest.Builder json(String path, String body) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    // "browse:40,detail:30" -> 요청 종류별 비율
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("--mix=browse:40,detail:30 형식으로 지정하세요.");
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("요청 비율이 비어 있습니다.");
+        }
+        return mix;
+    }
+
+    private static void printSummary(Map<String, LatencyStats> result, Map<String, StatementCounter.Totals> statements,
+                                     long background) {
+        System.out.printf("%-34s %9s %6s %9s %8s %8s %8s %8s %8s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "sql/req");
+        long total = 0;
+        for (Map.Entry<String, LatencyStats> entry : result.entrySet()) {
+            LatencyStats stats = entry.getValue();
+            total += stats.count();
+            System.out.printf(Locale.ROOT, "%-34s %9d %6d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+                    entry.getKey(), stats.count(), stats.errors(), stats.throughput(),
+                    stats.percentileMs(0.50), stats.percentileMs(0.95), stats.percentileMs(0.99), stats.maxMs(),
+                    sqlPerRequest(statements, entry.getKey()));
+        }
+        System.out.printf("전체 %d 요청, 요청 밖(스케줄러 등) SQL %d회%n", total, background);
+    }
+
+    private static void write(Path out, String label, int clients, int seconds, Map<Operation, Integer> mix,
+                              Map<String, LatencyStats> result, Map<String, StatementCounter.Totals> statements,
+                              long background) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"label\": \"").append(label).append("\",\n")
+                .append("  \"clients\": ").append(clients).append(",\n")
+                .append("  \"durationSeconds\": ").append(seconds).append(",\n")
+                .append("  \"mix\": {");
+        int m = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            json.append(m++ > 0 ? ", " : "").append('"').append(entry.getKey().name().toLowerCase(Locale.ROOT))
+                    .append("\": ").append(entry.getValue());
+        }
+        json.append("},\n  \"backgroundStatements\": ").append(background).append(",\n")
+                .append("  \"endpoints\": [\n");
+        int i = 0;
+        for (Map.Entry<String, LatencyStats> entry : result.entrySet()) {
+            LatencyStats stats = entry.getValue();
+            json.append(String.format(Locale.ROOT,
+                    "    {\"endpoint\": \"%s\", \"requests\": %d, \"errors\": %d, \"throughput\": %.1f, "
+                            + "\"p50Ms\": %.2f, \"p95Ms\": %.2f, \"p99Ms\": %.2f, \"maxMs\": %.2f, \"sqlPerRequest\": %.2f}%s%n",
+                    entry.getKey(), stats.count(), stats.errors(), stats.throughput(),
+                    stats.percentileMs(0.50), stats.percentileMs(0.95), stats.percentileMs(0.99), stats.maxMs(),
+                    sqlPerRequest(statements, entry.getKey()), ++i < result.size() ? "," : ""));
+        }
+        json.append("  ]\n}\n");
+
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        Files.writeString(out, json);
+    }
+
+    private static double sqlPerRequest(Map<String, StatementCounter.Totals> statements, String endpoint) {
+        StatementCounter.Totals totals = statements.get(endpoint);
+        return totals == null ? 0 : totals.perRequest();
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.backend.loadtest;
+
+import org.example.backend.support.SqlCapture;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 SQL 실행 횟수 집계
+ * - 실행 횟수는 애플리케이션의 SqlCapture가 셉니다 (DataSource에서 Statement의 execute*() 호출, executeBatch는 1회)
+ * - 요청을 처리하는 스레드에서 실행된 문장만 해당 엔드포인트에 더하고,
+ *   스케줄러(조회수/추천 수 반영 등)에서 실행된 문장은 background로 따로 셉니다.
+ */
+final class StatementCounter {
+
+    private final Map<String, Totals> byEndpoint = new ConcurrentHashMap<>();
+    private volatile long backgroundBase = SqlCapture.backgroundCount();
+
+    record Totals(LongAdder requests, LongAdder statements) {
+        double perRequest() {
+            long count = requests.sum();
+            return count == 0 ? 0 : (double) statements.sum() / count;
+        }
+    }
+
+    // 요청 하나의 실행 횟수를 엔드포인트에 합산
+    void record(String endpoint, int statements) {
+        if (endpoint == null) {
+            return;
+        }
+        Totals totals = byEndpoint.computeIfAbsent(endpoint, key -> new Totals(new LongAdder(), new LongAdder()));
+        totals.requests().increment();
+        totals.statements().add(statements);
+    }
+
+    // 워밍업 구간 집계 제거
+    void reset() {
+        byEndpoint.clear();
+        backgroundBase = SqlCapture.backgroundCount();
+    }
+
+    Map<String, Totals> snapshot() {
+        return new TreeMap<>(byEndpoint);
+    }
+
+    long background() {
+        return SqlCapture.backgroundCount() - backgroundBase;
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.backend.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.util.function.UnaryOperator;
+
+/**
+ * DataSource 빈을 감싸는 BeanPostProcessor
+ * 여러 설정이 DataSource를 감싸므로 감싸는 순서를 order로 고정합니다 (작을수록 먼저 감싸서 커넥션 풀에 가까움).
+ * BeanPostProcessor는 빈 타입이 Ordered일 때만 정렬되므로 @Bean 메서드의 반환 타입을 이 클래스로 선언해야 합니다.
+ */
+final class DataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+    // 커넥션 동시 사용 제한 (VirtualThreadConfig)
+    static final int CONNECTION_LIMIT_ORDER = 0;
+    // SQL 실행 기록 (MetricsConfig)
+    static final int SQL_CAPTURE_ORDER = 10;
+
+    private final Class<? extends DataSource> wrapperType;
+    private final int order;
+    private final UnaryOperator<DataSource> wrapper;
+
+    DataSourcePostProcessor(Class<? extends DataSource> wrapperType, int order, UnaryOperator<DataSource> wrapper) {
+        this.wrapperType = wrapperType;
+        this.order = order;
+        this.wrapper = wrapper;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource dataSource && !wrapperType.isInstance(bean)
+                ? wrapper.apply(dataSource)
+                : bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return order;
+    }
+}
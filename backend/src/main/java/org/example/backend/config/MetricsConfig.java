@@ -0,0 +1,112 @@
+package org.example.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.example.backend.search.QuestionSearchIndex;
+import org.example.backend.security.MemberSessionRegistry;
+import org.example.backend.service.LikeCountBuffer;
+import org.example.backend.service.TagService;
+import org.example.backend.service.ViewCountBuffer;
+import org.example.backend.support.HibernateRequestStats;
+import org.example.backend.support.RequestQueryMetricsFilter;
+import org.example.backend.support.SqlCaptureDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * 애플리케이션 메트릭 설정
+ * - 컨트롤러 지연 시간/오류: Spring Boot Actuator의 http.server.requests (application.yml에서 히스토그램, 백분위수 설정)
+ * - 저장소 메서드 호출 수/시간: spring.data.repository.invocations
+ * - Hibernate 전체 통계: hibernate.* (generate_statistics), 요청별 SQL 실행 수/엔티티 로딩 수: knowledgeout.http.request.*
+ * - 커넥션 풀 포화도와 메모리 버퍼/캐시 크기 게이지
+ * 수집 엔드포인트(/actuator/prometheus)는 management 포트(로컬 전용)로, 요약 JSON은 GET /api/knowledgeout/admin/metrics로 제공합니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // SQL 실행 수를 세도록 DataSource를 감쌈 (다른 빈보다 먼저 등록되어야 하므로 static, 커넥션 제한보다 바깥)
+    @Bean
+    static DataSourcePostProcessor sqlCaptureDataSourcePostProcessor() {
+        return new DataSourcePostProcessor(SqlCaptureDataSource.class, DataSourcePostProcessor.SQL_CAPTURE_ORDER,
+                SqlCaptureDataSource::new);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatsHibernateCustomizer() {
+        return properties -> properties.put(AvailableSettings.INTERCEPTOR, HibernateRequestStats.INSTANCE);
+    }
+
+    // 인증 필터(세션 회원 조회 등)에서 실행되는 쿼리도 포함되도록 보안 필터보다 먼저
+    // (N+1 감지 필터보다 바깥에서 시작해야 안쪽 기록의 문장도 함께 셈)
+    @Bean
+    public FilterRegistrationBean<RequestQueryMetricsFilter> requestQueryMetricsFilter() {
+        FilterRegistrationBean<RequestQueryMetricsFilter> registration = new FilterRegistrationBean<>(new RequestQueryMetricsFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    // 커넥션 풀 포화도 (사용 중 / 최대, 1이면 대기 발생 중)
+    // 사용 중/대기/최대 커넥션 수 자체는 Actuator가 hikaricp.connections.*로 내보냄
+    @Bean
+    public MeterBinder connectionPoolSaturationMetrics(DataSource dataSource) {
+        return registry -> {
+            HikariDataSource hikari = unwrapHikari(dataSource);
+            if (hikari == null) {
+                return;
+            }
+            Gauge.builder("knowledgeout.jdbc.pool.saturation", hikari, MetricsConfig::saturation)
+                    .description("Active connections divided by the maximum pool size")
+                    .register(registry);
+        };
+    }
+
+    // 메모리에만 보관하는 버퍼/캐시 크기 (증감분 합계처럼 각 클래스에서 직접 등록하는 게이지는 제외)
+    @Bean
+    public MeterBinder inMemoryStateMetrics(ViewCountBuffer viewCountBuffer,
+                                            LikeCountBuffer likeCountBuffer,
+                                            QuestionSearchIndex questionSearchIndex,
+                                            TagService tagService,
+                                            MemberSessionRegistry memberSessionRegistry) {
+        return registry -> {
+            Gauge.builder("knowledgeout.view_count.pending_questions", viewCountBuffer, ViewCountBuffer::getPendingQuestionCount)
+                    .description("Questions with buffered view deltas")
+                    .register(registry);
+            Gauge.builder("knowledgeout.like_count.pending_questions", likeCountBuffer, LikeCountBuffer::getPendingQuestionCount)
+                    .description("Questions with buffered like deltas")
+                    .register(registry);
+            Gauge.builder("knowledgeout.search_index.documents", questionSearchIndex, QuestionSearchIndex::size)
+                    .description("Questions in the in-memory search index")
+                    .register(registry);
+            Gauge.builder("knowledgeout.tag_cache.size", tagService, TagService::getCachedTagCount)
+                    .description("Tag name to id entries cached in memory")
+                    .register(registry);
+            Gauge.builder("knowledgeout.member_sessions.changed", memberSessionRegistry, MemberSessionRegistry::size)
+                    .description("Members whose logged-in sessions must be refreshed")
+                    .register(registry);
+        };
+    }
+
+    private static double saturation(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        int max = hikari.getMaximumPoolSize();
+        return pool == null || max <= 0 ? 0 : (double) pool.getActiveConnections() / max;
+    }
+
+    // 가상 스레드 모드에서는 ConnectionLimitingDataSource로 감싸져 있음
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
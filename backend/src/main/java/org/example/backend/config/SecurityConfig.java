@@ -1,7 +1,15 @@
 package org.example.backend.config;
 
 import lombok.RequiredArgsConstructor;
+import org.example.backend.repository.MemberRepository;
+import org.example.backend.security.BoundedPasswordEncoder;
 import org.example.backend.security.CustomUserDetailsService;
+import org.example.backend.security.MemberSessionFilter;
+import org.example.backend.security.MemberSessionRegistry;
+import org.example.backend.security.TokenAuthenticationFilter;
+import org.example.backend.security.TokenService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -15,6 +23,9 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -29,10 +40,20 @@ public class SecurityConfig {
 
     // 1. [필수] 비밀번호 암호화 빈 (회원가입 서비스에서 사용)
     private final CustomUserDetailsService userDetailsService;
+    private final MemberSessionRegistry memberSessionRegistry;
+    private final MemberRepository memberRepository;
+    private final TokenService tokenService;
 
+    // 비밀번호 해시는 전용 스레드 풀에서 실행 (대기열이 가득 차면 503)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${knowledgeout.password.bcrypt-strength:10}") int strength,
+            @Value("${knowledgeout.password.threads:0}") int threads,
+            @Value("${knowledgeout.password.queue-capacity:64}") int queueCapacity,
+            @Value("${knowledgeout.password.timeout-ms:5000}") long timeoutMs) {
+        // 0이면 CPU 코어의 절반 (조회 요청용 CPU를 남겨 둠)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), strength, poolSize, queueCapacity, timeoutMs);
     }
 
     @Bean
@@ -40,6 +61,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder);
+        // 로그인 성공 시 해시 cost가 바뀌었으면 다시 해시해서 저장
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return new ProviderManager(authProvider);
     }
 
@@ -52,18 +75,21 @@ public class SecurityConfig {
                 // 2. CORS 설정 적용
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
 
-                // 3. 세션 관리 정책
+                // 3. 세션 관리 정책 (토큰 인증 모드면 세션을 만들지도 읽지도 않음)
                 .sessionManagement(session ->
-                        // session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                        // JWT 필터 구현시 해당 코드 지우고 STATELESS로 테스트 진행 필요
-                        session.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED))
+                        session.sessionCreationPolicy(tokenService.isEnabled()
+                                ? SessionCreationPolicy.STATELESS
+                                : SessionCreationPolicy.IF_REQUIRED))
 
                 // 4. URL 권한 설정
                 .authorizeHttpRequests(auth -> auth
                         // (1) 공개 경로
-                        .requestMatchers("/api/knowledgeout/members/signup", "/api/knowledgeout/members/login").permitAll()
+                        .requestMatchers("/api/knowledgeout/members/signup", "/api/knowledgeout/members/login", "/api/knowledgeout/members/token/refresh", "/api/knowledgeout/members/logout").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/knowledgeout", "/api/knowledgeout/questions/**", "/api/knowledgeout/categories").permitAll()
                         
+                        // 메트릭 수집 엔드포인트 (management 포트는 127.0.0.1에만 열림)
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll()
+
                         // (2) 선택적 인증 경로 (로그인하지 않은 경우에도 접근 가능)
                         .requestMatchers(HttpMethod.GET, "/api/knowledgeout/members/current").permitAll()
 
@@ -102,6 +128,17 @@ public class SecurityConfig {
                         .deleteCookies("JSESSIONID")
                 );
 
+        if (tokenService.isEnabled()) {
+            // Authorization: Bearer 토큰 검증 (DB/세션 조회 없음)
+            // 로그아웃은 refresh 토큰을 폐기해야 하므로 세션 로그아웃 필터 대신 LoginController에서 처리
+            http.logout(AbstractHttpConfigurer::disable)
+                    .securityContext(context -> context.securityContextRepository(new RequestAttributeSecurityContextRepository()))
+                    .addFilterBefore(new TokenAuthenticationFilter(tokenService, memberSessionRegistry), UsernamePasswordAuthenticationFilter.class);
+        } else {
+            // 회원 정보 수정/탈퇴 이후 세션의 로그인 정보 갱신
+            http.addFilterAfter(new MemberSessionFilter(memberSessionRegistry, memberRepository), SecurityContextHolderFilter.class);
+        }
+
         return http.build();
     }
 
@@ -0,0 +1,28 @@
+package org.example.backend.config;
+
+import org.example.backend.support.NPlusOneDetectorFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * SQL 진단 (개발 모드, application.yml의 dev 프로필과 테스트에서 사용)
+ * 요청마다 실행한 SQL을 형태와 호출 위치까지 기록하고(SqlCapture, DataSource는 MetricsConfig에서 감쌈),
+ * 같은 형태의 SQL이 반복되면(N+1) 호출 위치와 함께 경고 로그를 남깁니다.
+ * 문장마다 호출 위치(스택)를 찾으므로 운영에서는 켜지 않습니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "knowledgeout.sql.n-plus-one.enabled", havingValue = "true")
+public class SqlDiagnosticsConfig {
+
+    @Bean
+    public FilterRegistrationBean<NPlusOneDetectorFilter> nPlusOneDetectorFilter(
+            @Value("${knowledgeout.sql.n-plus-one.threshold:3}") int threshold) {
+        FilterRegistrationBean<NPlusOneDetectorFilter> registration = new FilterRegistrationBean<>(new NPlusOneDetectorFilter(threshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
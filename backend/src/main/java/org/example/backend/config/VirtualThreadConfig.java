@@ -0,0 +1,51 @@
+package org.example.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.support.ConnectionLimitingDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true, application.yml의 virtual 프로필)
+ * Tomcat 요청 처리, @Async, @Scheduled 작업은 Spring Boot가 가상 스레드로 실행하고,
+ * 여기서는 DataSource를 커넥션 풀 크기만큼의 공정 세마포어로 감쌉니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "knowledgeout.jdbc.guard.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    // 다른 빈보다 먼저 등록되어야 하므로 static (SQL 기록보다 먼저 감싸서 커넥션 풀에 가장 가까움)
+    @Bean
+    static DataSourcePostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new DataSourcePostProcessor(ConnectionLimitingDataSource.class, DataSourcePostProcessor.CONNECTION_LIMIT_ORDER,
+                dataSource -> {
+                    // 0이면 커넥션 풀(Hikari) 최대 크기
+                    int permits = environment.getProperty("knowledgeout.jdbc.guard.permits", Integer.class, 0);
+                    if (permits <= 0) {
+                        permits = poolSize(dataSource);
+                    }
+                    long timeoutMs = environment.getProperty("knowledgeout.jdbc.guard.acquire-timeout-ms", Long.class, 60_000L);
+                    log.info("커넥션 동시 사용 제한: {} (대기 최대 {}ms)", permits, timeoutMs);
+                    return new ConnectionLimitingDataSource(dataSource, permits, timeoutMs);
+                });
+    }
+
+    // 다른 DataSource 래퍼 안쪽의 Hikari 풀 크기 (Hikari가 아니면 10)
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("커넥션 풀 크기 확인 실패: {}", e.getMessage());
+        }
+        return 10;
+    }
+}
@@ -2,26 +2,79 @@ package org.example.backend.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.backend.dto.response.AdminDashboardDto;
+import org.example.backend.dto.response.DailyCountDto;
+import org.example.backend.dto.response.MetricsSummaryDto;
 import org.example.backend.service.AdminService;
+import org.example.backend.service.CategoryService;
+import org.example.backend.service.MetricsSummaryService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/knowledgeout/admin")
 @RequiredArgsConstructor
 public class AdminController {
 
     private final AdminService adminService;
+    private final CategoryService categoryService;
+    private final MetricsSummaryService metricsSummaryService;
 
     @GetMapping("/dashboard")
     public ResponseEntity<AdminDashboardDto> getDashboard(
             // days 파라미터 받기 (기본값 7)
-            @RequestParam(name = "days", defaultValue = "7") int days
+            @RequestParam(name = "days", defaultValue = "7") int days,
+            // from, to를 모두 주면 days 대신 해당 기간으로 조회
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
     ) {
+        if (from != null && to != null) {
+            return ResponseEntity.ok(adminService.getDashboardData(from, to));
+        }
         // 서비스 호출 시 days 전달
         return ResponseEntity.ok(adminService.getDashboardData(days));
     }
-}
\ No newline at end of file
+
+    // 태그/카테고리별 일자 시계열 (기본: 최근 30일)
+    @GetMapping("/stats/daily")
+    public ResponseEntity<List<DailyCountDto>> getDailySeries(
+            @RequestParam String type,
+            @RequestParam String name,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return ResponseEntity.ok(adminService.getDailySeries(type, name, start, end));
+    }
+
+    // 일자별 통계 재계산
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<Void> rebuildDailyStats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        adminService.rebuildDailyStats(from, to);
+        return ResponseEntity.ok().build();
+    }
+
+    // 카테고리를 DB에서 직접 변경한 뒤 목록 스냅샷 다시 읽기
+    @PostMapping("/categories/refresh")
+    public ResponseEntity<Void> refreshCategories() {
+        categoryService.refreshCategories();
+        return ResponseEntity.ok().build();
+    }
+
+    // 엔드포인트/저장소/Hibernate/커넥션 풀 메트릭 요약 (시작 이후 누적)
+    @GetMapping("/metrics")
+    public ResponseEntity<MetricsSummaryDto> getMetrics() {
+        return ResponseEntity.ok(metricsSummaryService.getSummary());
+    }
+}
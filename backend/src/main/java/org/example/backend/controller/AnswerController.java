@@ -3,11 +3,16 @@ package org.example.backend.controller;
 import lombok.RequiredArgsConstructor;
 import org.example.backend.dto.request.AnswerRequestDto;
 import org.example.backend.dto.response.AnswerResponseDto;
+import org.example.backend.dto.response.CursorSliceDto;
+import org.example.backend.security.CurrentMember;
+import org.example.backend.security.LoginMember;
 import org.example.backend.service.AnswerService;
+import org.example.backend.service.QuestionService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,35 +21,61 @@ import java.util.List;
 @RequestMapping("/api/knowledgeout/questions/{id}/answers")
 public class AnswerController {
     private final AnswerService answerService;
+    private final QuestionService questionService;
 
+    // 답변 목록 조회 (질문 버전 기준 ETag, If-None-Match가 같으면 304)
     @GetMapping
-    public ResponseEntity<List<AnswerResponseDto>> getAnswers(@PathVariable Long id) {
+    public ResponseEntity<List<AnswerResponseDto>> getAnswers(@PathVariable Long id, WebRequest webRequest) {
+        String etag = questionService.getQuestionEtag(id);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         List<AnswerResponseDto> answers = answerService.getAnswersByQuestionId(id);
-        return ResponseEntity.ok(answers);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(answers);
+    }
+
+    // 답변 커서 기반 조회 (작성일시 오름차순, If-None-Match가 같으면 304)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorSliceDto<AnswerResponseDto>> getAnswerSlice(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+        String etag = questionService.getQuestionEtag(id);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(answerService.getAnswerSlice(id, cursor, size));
     }
 
     @PostMapping
-    public ResponseEntity<Long> createAnswer(@AuthenticationPrincipal User user, @PathVariable Long id, @RequestBody AnswerRequestDto request) {
-        Long answerId = answerService.addAnswer(user.getUsername(), id, request);
+    public ResponseEntity<Long> createAnswer(@CurrentMember LoginMember member, @PathVariable Long id, @RequestBody AnswerRequestDto request) {
+        Long answerId = answerService.addAnswer(member.id(), id, request);
         return ResponseEntity.ok(answerId);
     }
 
     @PutMapping("/{answerId}")
     public ResponseEntity<Void> updateAnswer(
-            @AuthenticationPrincipal User user,
+            @CurrentMember LoginMember member,
             @PathVariable Long id,
             @PathVariable Long answerId,
             @RequestBody AnswerRequestDto request) {
-        answerService.updateAnswer(user.getUsername(), id, answerId, request);
+        answerService.updateAnswer(member.id(), id, answerId, request);
         return ResponseEntity.ok().build();
     }
 
     @DeleteMapping("/{answerId}")
     public ResponseEntity<Void> deleteAnswer(
-            @AuthenticationPrincipal User user,
+            @CurrentMember LoginMember member,
             @PathVariable Long id,
             @PathVariable Long answerId) {
-        answerService.deleteAnswer(user.getUsername(), id, answerId);
+        answerService.deleteAnswer(member.id(), member.isAdmin(), id, answerId);
         return ResponseEntity.ok().build();
     }
 }
@@ -1,14 +1,16 @@
 package org.example.backend.controller;
 
 import lombok.RequiredArgsConstructor;
-import org.example.backend.dto.response.CategoryResponseDto;
+import org.example.backend.service.CategoryCache;
 import org.example.backend.service.CategoryService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/knowledgeout/categories")
@@ -17,9 +19,17 @@ public class CategoryController {
 
     private final CategoryService categoryService;
 
-    // 카테고리 목록 조회 API
+    // 카테고리 목록 조회 API (미리 직렬화된 JSON, If-None-Match가 같으면 304)
     @GetMapping
-    public ResponseEntity<List<CategoryResponseDto>> getAllCategories() {
-        return ResponseEntity.ok(categoryService.getAllCategories());
+    public ResponseEntity<byte[]> getAllCategories(WebRequest webRequest) {
+        CategoryCache.Snapshot snapshot = categoryService.getCategorySnapshot();
+        if (webRequest.checkNotModified(snapshot.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.json());
     }
-}
\ No newline at end of file
+}
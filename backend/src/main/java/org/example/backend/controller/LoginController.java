@@ -1,9 +1,15 @@
 package org.example.backend.controller;
 
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.example.backend.dto.response.TokenResponseDto;
+import org.example.backend.security.MemberAdaptor;
+import org.example.backend.security.TokenService;
+import org.example.backend.service.AuthService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -16,6 +22,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 /**
  * 웹 계층(web.controller)에 위치한 로그인 컨트롤러입니다.
+ * 토큰 인증 모드(knowledgeout.auth.mode=token)에서는 세션 대신 access/refresh 토큰을 반환합니다.
  */
 @RestController
 @RequestMapping("/api/knowledgeout/members")
@@ -23,6 +30,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class LoginController {
 
     private final AuthenticationManager authenticationManager;
+    private final TokenService tokenService;
+    private final AuthService authService;
 
     @PostMapping("/login")
     public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest loginRequest, HttpServletRequest request) {
@@ -31,14 +40,46 @@ public class LoginController {
 
         Authentication authentication = authenticationManager.authenticate(authenticationToken);
 
+        if (tokenService.isEnabled()) {
+            MemberAdaptor member = (MemberAdaptor) authentication.getPrincipal();
+            TokenResponseDto tokens = authService.issueTokens(member.getLoginMember());
+            return ResponseEntity.ok(new LoginResponse("Success", "로그인이 완료되었습니다.", tokens));
+        }
+
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         HttpSession session = request.getSession(true);
         session.setAttribute("SPRING_SECURITY_CONTEXT", SecurityContextHolder.getContext());
 
-        return ResponseEntity.ok(new LoginResponse("Success", "로그인이 완료되었습니다."));
+        return ResponseEntity.ok(new LoginResponse("Success", "로그인이 완료되었습니다.", null));
+    }
+
+    // access 토큰 재발급 (토큰 인증 모드, refresh 토큰도 새로 발급)
+    @PostMapping("/token/refresh")
+    public ResponseEntity<TokenResponseDto> refresh(@RequestBody RefreshRequest refreshRequest) {
+        if (!tokenService.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        return authService.refreshTokens(refreshRequest.refreshToken())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+    }
+
+    // 로그아웃 (토큰 인증 모드, refresh 토큰 폐기, access 토큰은 만료될 때까지 유효)
+    // 세션 인증 모드에서는 Spring Security 로그아웃 필터가 처리
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody(required = false) RefreshRequest refreshRequest) {
+        if (!tokenService.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (refreshRequest != null) {
+            authService.logout(refreshRequest.refreshToken());
+        }
+        return ResponseEntity.ok().build();
     }
 
     public record LoginRequest(String email, String password) {}
-    public record LoginResponse(String status, String message) {}
-}
\ No newline at end of file
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record LoginResponse(String status, String message, TokenResponseDto token) {}
+    public record RefreshRequest(String refreshToken) {}
+}
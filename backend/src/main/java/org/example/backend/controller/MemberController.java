@@ -1,20 +1,23 @@
 package org.example.backend.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.backend.dto.request.UpdateMemberRequestDto;
+import org.example.backend.dto.response.CursorSliceDto;
+import org.example.backend.dto.response.LikedQuestionDto;
 import org.example.backend.dto.response.MemberResponseDto;
 import org.example.backend.dto.response.MyAnswerResponseDto;
 import org.example.backend.dto.response.QuestionResponseDto;
+import org.example.backend.dto.response.QuestionSummaryDto;
 import org.example.backend.exception.BusinessException;
 import org.example.backend.exception.ErrorCode;
-import org.example.backend.repository.MemberRepository;
+import org.example.backend.security.CurrentMember;
+import org.example.backend.security.LoginMember;
 import org.example.backend.service.MemberService;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -24,21 +27,15 @@ import java.util.List;
 @RequestMapping("/api/knowledgeout/members")
 public class MemberController {
     private final MemberService memberService;
-    private final MemberRepository memberRepository;
 
     // 현재 로그인한 사용자 정보 조회 (선택적 인증 - 로그인하지 않은 경우 null 반환)
     @GetMapping("/current")
-    public ResponseEntity<MemberResponseDto> getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated() || authentication.getName().equals("anonymousUser") || !(authentication.getPrincipal() instanceof User)) {
+    public ResponseEntity<MemberResponseDto> getCurrentUser(@CurrentMember LoginMember member) {
+        if (member == null) {
             return ResponseEntity.noContent().build();
         }
         try {
-            User user = (User) authentication.getPrincipal();
-            Long memberId = memberRepository.findByEmail(user.getUsername())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND))
-                    .getId();
-            MemberResponseDto response = memberService.getMember(memberId);
+            MemberResponseDto response = memberService.getMember(member.id());
             return ResponseEntity.ok(response);
         } catch (BusinessException | IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
@@ -47,12 +44,9 @@ public class MemberController {
 
     // 마이페이지 정보 조회
     @GetMapping("/mypage")
-    public ResponseEntity<MemberResponseDto> getMyPage(@AuthenticationPrincipal User user) {
+    public ResponseEntity<MemberResponseDto> getMyPage(@CurrentMember LoginMember member) {
         try {
-            Long memberId = memberRepository.findByEmail(user.getUsername())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND))
-                    .getId();
-            MemberResponseDto response = memberService.getMember(memberId);
+            MemberResponseDto response = memberService.getMember(member.id());
             return ResponseEntity.ok(response);
         } catch (BusinessException | IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
@@ -61,14 +55,10 @@ public class MemberController {
 
     // 회원 정보 수정
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateMember(@AuthenticationPrincipal User user, @PathVariable Long id, @Valid @RequestBody UpdateMemberRequestDto request) {
+    public ResponseEntity<?> updateMember(@CurrentMember LoginMember member, @PathVariable Long id, @Valid @RequestBody UpdateMemberRequestDto request) {
         try {
             // 현재 로그인한 사용자와 수정 대상 사용자가 일치하는지 확인
-            Long currentUserId = memberRepository.findByEmail(user.getUsername())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND))
-                    .getId();
-
-            if (!currentUserId.equals(id)) {
+            if (!member.id().equals(id)) {
                 throw new BusinessException(ErrorCode.ACCESS_DENIED);
             }
 
@@ -82,52 +72,85 @@ public class MemberController {
     }
 
     @GetMapping("/mypage/questions")
-    public ResponseEntity<List<QuestionResponseDto>> myQuestions(@AuthenticationPrincipal User user) {
+    public ResponseEntity<List<QuestionResponseDto>> myQuestions(@CurrentMember LoginMember member) {
+        try {
+            return ResponseEntity.ok(memberService.getMyQuestions(member.id()));
+        } catch (BusinessException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 내가 작성한 질문 커서 기반 조회 (목록용 요약)
+    @GetMapping("/mypage/questions/cursor")
+    public ResponseEntity<CursorSliceDto<QuestionSummaryDto>> myQuestionSlice(
+            @CurrentMember LoginMember member,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         try {
-            Long memberId = memberRepository.findByEmail(user.getUsername())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND))
-                    .getId();
-            return ResponseEntity.ok(memberService.getMyQuestions(memberId));
+            return ResponseEntity.ok(memberService.getMyQuestionSlice(member.id(), cursor, size));
         } catch (BusinessException | IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
     @GetMapping("/mypage/answers")
-    public ResponseEntity<List<MyAnswerResponseDto>> myAnswers(@AuthenticationPrincipal User user) {
+    public ResponseEntity<List<MyAnswerResponseDto>> myAnswers(@CurrentMember LoginMember member) {
+        try {
+            return ResponseEntity.ok(memberService.getMyAnswers(member.id()));
+        } catch (BusinessException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 내가 작성한 답변 커서 기반 조회
+    @GetMapping("/mypage/answers/cursor")
+    public ResponseEntity<CursorSliceDto<MyAnswerResponseDto>> myAnswerSlice(
+            @CurrentMember LoginMember member,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         try {
-            Long memberId = memberRepository.findByEmail(user.getUsername())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND))
-                    .getId();
-            return ResponseEntity.ok(memberService.getMyAnswers(memberId));
+            return ResponseEntity.ok(memberService.getMyAnswerSlice(member.id(), cursor, size));
         } catch (BusinessException | IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
     @GetMapping("/mypage/likes")
-    public ResponseEntity<List<QuestionResponseDto>> myLikedQuestions(@AuthenticationPrincipal User user) {
+    public ResponseEntity<List<QuestionResponseDto>> myLikedQuestions(@CurrentMember LoginMember member) {
+        try {
+            return ResponseEntity.ok(memberService.getMyLikedQuestions(member.id()));
+        } catch (BusinessException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 내가 추천한 질문 커서 기반 조회 (추천 일시 최신순)
+    @GetMapping("/mypage/likes/cursor")
+    public ResponseEntity<CursorSliceDto<LikedQuestionDto>> myLikedQuestionSlice(
+            @CurrentMember LoginMember member,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         try {
-            Long memberId = memberRepository.findByEmail(user.getUsername())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND))
-                    .getId();
-            return ResponseEntity.ok(memberService.getMyLikedQuestions(memberId));
+            return ResponseEntity.ok(memberService.getMyLikedQuestionSlice(member.id(), cursor, size));
         } catch (BusinessException | IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
     @DeleteMapping("/mypage/withdraw")
-    public ResponseEntity<Void> withdraw(@AuthenticationPrincipal User user) {
+    public ResponseEntity<Void> withdraw(@CurrentMember LoginMember member, HttpServletRequest request) {
         try {
-            Long memberId = memberRepository.findByEmail(user.getUsername())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND))
-                    .getId();
+            memberService.withdraw(member.id());
 
-            memberService.withdraw(memberId);
+            // 탈퇴한 회원의 현재 세션 종료 (다른 세션은 MemberSessionFilter가 종료)
+            SecurityContextHolder.clearContext();
+            HttpSession session = request.getSession(false);
+            if (session != null) {
+                session.invalidate();
+            }
             return ResponseEntity.noContent().build();
         } catch (BusinessException | IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
     }
-}
\ No newline at end of file
+}
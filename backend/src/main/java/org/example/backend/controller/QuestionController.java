@@ -1,17 +1,31 @@
 package org.example.backend.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.example.backend.dto.request.QuestionRequestDto;
+import org.example.backend.dto.response.CursorSliceDto;
+import org.example.backend.dto.response.QuestionCountDto;
 import org.example.backend.dto.response.QuestionResponseDto;
+import org.example.backend.dto.response.QuestionSearchHitDto;
+import org.example.backend.dto.response.QuestionSummaryDto;
+import org.example.backend.security.CurrentMember;
+import org.example.backend.security.LoginMember;
 import org.example.backend.service.QuestionService;
+import org.example.backend.service.QuestionVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/knowledgeout/questions")
@@ -22,61 +36,162 @@ public class QuestionController {
     // 질문 등록
     @PostMapping
     public ResponseEntity<Long> createQuestion(
-            @AuthenticationPrincipal User user,
+            @CurrentMember LoginMember member,
             @RequestBody QuestionRequestDto request) {
-        Long questionId = questionService.addQuestion(user.getUsername(), request);
+        Long questionId = questionService.addQuestion(member.id(), request);
         return ResponseEntity.ok(questionId);
     }
 
-    // 질문 목록 조회 (검색 조건 포함)
+    // 질문 목록 조회 (검색 조건 포함, If-None-Match가 같으면 목록을 읽지 않고 304 - ETag는 조건에 맞는 질문의 집계 버전)
     @GetMapping
     public ResponseEntity<Page<QuestionResponseDto>> getQuestions(
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String search,
+            WebRequest webRequest
+    ) {
+        String etag = questionService.getQuestionListEtag(category, tag, status, search);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(questionService.getQuestions(pageable, category, tag, status, search));
+    }
+
+    // 질문 요약 목록 조회 (목록 화면용 경량 응답: 본문 일부, 답변/좋아요 수, 태그)
+    @GetMapping("/summaries")
+    public ResponseEntity<Page<QuestionSummaryDto>> getQuestionSummaries(
             @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String tag,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String search
     ) {
-        return ResponseEntity.ok(questionService.getQuestions(pageable, category, tag, status, search));
+        return ResponseEntity.ok(questionService.getQuestionSummaries(pageable, category, tag, status, search));
+    }
+
+    // 질문 목록 커서 기반 조회 (무한 스크롤용)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorSliceDto<QuestionSummaryDto>> getQuestionSlice(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String search
+    ) {
+        return ResponseEntity.ok(questionService.getQuestionSlice(cursor, size, category, tag, status, search));
+    }
+
+    // 질문 검색 (관련도순)
+    @GetMapping("/search")
+    public ResponseEntity<List<QuestionSearchHitDto>> searchQuestions(
+            @RequestParam("q") String keyword,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(questionService.searchQuestions(keyword, limit));
     }
 
     // 질문 개수 조회
     @GetMapping("/count-summary")
-    public ResponseEntity<org.example.backend.dto.response.QuestionCountDto> getQuestionCounts(
+    public ResponseEntity<QuestionCountDto> getQuestionCounts(
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String search
     ) {
         return ResponseEntity.ok(questionService.getQuestionCounts(category, search));
     }
 
-    // 질문 상세 조회
+    // 질문 상세 조회 (If-None-Match가 같으면 질문을 읽지 않고 304, 조회수는 기록)
+    // 본문은 캐시된 JSON(QuestionResponseDto 형식)을 그대로 내려주며, 클라이언트가 지원하면 gzip으로 압축
+    // answerSize를 지정하면 답변은 첫 페이지만 포함 (answerCount는 전체 개수, 나머지는 answerNextCursor로 조회)
     @GetMapping("/{id}")
-    public ResponseEntity<QuestionResponseDto> getQuestion(@PathVariable Long id) {
-        QuestionResponseDto responseDto = questionService.getQuestion(id);
-        return ResponseEntity.ok(responseDto);
+    public ResponseEntity<byte[]> getQuestion(
+            @CurrentMember LoginMember member,
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer answerSize,
+            HttpServletRequest request,
+            WebRequest webRequest) {
+        QuestionVersion version = questionService.getQuestionVersion(id);
+        String etag = version.etag();
+        if (webRequest.checkNotModified(etag)) {
+            questionService.recordView(id, viewerKey(member, request));
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        boolean gzip = acceptsGzip(request);
+        byte[] body = questionService.getQuestionDetailJson(version, viewerKey(member, request), answerSize, gzip);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<QuestionResponseDto> updateQuestion(
-            @AuthenticationPrincipal User user,
+            @CurrentMember LoginMember member,
             @PathVariable Long id,
             @RequestBody QuestionRequestDto request) {
-        QuestionResponseDto updatedQuestion = questionService.updateQuestion(id, user.getUsername(), request);
+        QuestionResponseDto updatedQuestion = questionService.updateQuestion(id, member.id(), request);
         return ResponseEntity.ok(updatedQuestion);
     }
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteQuestion(
-            @AuthenticationPrincipal User user,
+            @CurrentMember LoginMember member,
             @PathVariable Long id) {
-        questionService.deleteQuestion(user.getUsername(), id);
+        questionService.deleteQuestion(member.id(), member.isAdmin(), id);
         return ResponseEntity.ok().build();
     }
     
     @PostMapping("/{id}/likes")
     public ResponseEntity<Long> toggleQuestionLike(
-            @AuthenticationPrincipal User user,
+            @CurrentMember LoginMember member,
+            @PathVariable Long id) {
+        long likeCount = questionService.toggleQuestionLike(id, member.id());
+        return ResponseEntity.ok(likeCount);
+    }
+
+    // 추천 설정 (이미 추천했으면 그대로 두고 현재 추천 수 반환)
+    @PutMapping("/{id}/likes")
+    public ResponseEntity<Long> likeQuestion(
+            @CurrentMember LoginMember member,
             @PathVariable Long id) {
-        long likeCount = questionService.toggleQuestionLike(id, user.getUsername());
+        long likeCount = questionService.setQuestionLike(id, member.id(), true);
         return ResponseEntity.ok(likeCount);
     }
+
+    // 추천 해제 (추천하지 않았으면 그대로 두고 현재 추천 수 반환)
+    @DeleteMapping("/{id}/likes")
+    public ResponseEntity<Long> unlikeQuestion(
+            @CurrentMember LoginMember member,
+            @PathVariable Long id) {
+        long likeCount = questionService.setQuestionLike(id, member.id(), false);
+        return ResponseEntity.ok(likeCount);
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    // 고유 조회자 식별자: 회원이면 회원 ID, 비회원이면 세션 ID 또는 IP + User-Agent
+    // (세션이 없는 비회원을 위해 새 세션을 만들지는 않음)
+    private String viewerKey(LoginMember member, HttpServletRequest request) {
+        if (member != null) {
+            return "m:" + member.id();
+        }
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            return "s:" + session.getId();
+        }
+        return "a:" + request.getRemoteAddr() + "|" + request.getHeader("User-Agent");
+    }
 }
\ No newline at end of file
@@ -17,7 +17,9 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "answers")
+@Table(name = "answers", indexes = {
+        @Index(name = "idx_answer_question_created_at_id", columnList = "question_id, created_at, id"),
+        @Index(name = "idx_answer_member_created_at_id", columnList = "member_id, created_at, id")})
 public class Answer {
 
     @Id
@@ -0,0 +1,25 @@
+package org.example.backend.domain.member;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 정보가 마지막으로 바뀐(수정/탈퇴) 시각 (인스턴스 간 공유)
+ * MemberSessionRegistry가 기록하고 모든 인스턴스가 주기적으로 읽어서, 변경 전에 만든 세션/토큰을 거부합니다.
+ * 기록은 MemberSessionRegistry가 JdbcTemplate으로 직접 하며, 엔티티는 테이블 정의용입니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "member_changes",
+        indexes = {@Index(name = "idx_member_change_changed_at", columnList = "changed_at")})
+public class MemberChange {
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    // 변경 시각 (ms, LoginMember.issuedAt과 같은 기준)
+    @Column(name = "changed_at", nullable = false)
+    private long changedAt;
+}
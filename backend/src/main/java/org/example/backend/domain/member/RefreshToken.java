@@ -0,0 +1,33 @@
+package org.example.backend.domain.member;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 발급한 refresh 토큰 (토큰 인증 모드)
+ * refresh 토큰의 jti 클레임이 이 행의 ID이며, 재발급/로그아웃/비밀번호 변경/탈퇴 시 행을 지워 토큰을 폐기합니다.
+ * 서명과 만료 시각만으로는 폐기된 토큰을 구분할 수 없으므로 재발급할 때마다 이 행을 확인합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "refresh_tokens",
+        indexes = {@Index(name = "idx_refresh_token_member_id", columnList = "member_id")})
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    // 만료 시각 (ms, 토큰의 exp와 같은 기준)
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+
+    public RefreshToken(Long memberId, long expiresAt) {
+        this.memberId = memberId;
+        this.expiresAt = expiresAt;
+    }
+}
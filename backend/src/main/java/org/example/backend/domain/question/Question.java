@@ -22,7 +22,10 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "questions")
+@Table(name = "questions", indexes = {
+        @Index(name = "idx_question_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_question_member_created_at_id", columnList = "member_id, created_at, id"),
+        @Index(name = "idx_question_modified_at", columnList = "modified_at")})
 public class Question {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -38,9 +41,26 @@ public class Question {
     @Column(nullable = false)
     private int viewCount = 0;
 
+    // 고유 조회자 수 (HyperLogLog 추정값, 추정값이 바뀔 때만 갱신)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int uniqueViewCount = 0;
+
+    // 추천 수 (question_likes 행 수의 비정규화 값, LikeCountBuffer가 증감분을 일괄 반영)
+    // 엔티티 저장 시 덮어쓰지 않도록 JPA에서는 읽기만 함
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    private long likeCount = 0;
+
     @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
     private boolean status = false;
 
+    // 내용 버전 (질문/답변 변경 시 QuestionVersionRegistry가 같은 트랜잭션에서 1씩 올림, ETag와 상세 응답 캐시 키)
+    // 동시에 변경해도 서로 덮어쓰지 않도록 JPA에서는 읽기만 함
+    @ColumnDefault("0")
+    @Column(name = "content_version", nullable = false, insertable = false, updatable = false)
+    private long contentVersion = 0;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
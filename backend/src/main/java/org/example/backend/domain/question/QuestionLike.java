@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "question_likes", uniqueConstraints = {@UniqueConstraint(name = "uk_question_like_member_question", columnNames = {"member_id", "question_id"})})
+@Table(name = "question_likes",
+        uniqueConstraints = {@UniqueConstraint(name = "uk_question_like_member_question", columnNames = {"member_id", "question_id"})},
+        indexes = {@Index(name = "idx_question_like_member_created_at_id", columnList = "member_id, created_at, id")})
 public class QuestionLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
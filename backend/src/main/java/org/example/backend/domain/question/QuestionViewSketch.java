@@ -0,0 +1,52 @@
+package org.example.backend.domain.question;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.backend.support.HyperLogLog;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 질문별 고유 조회자 HyperLogLog 스케치 (2KB blob)
+ * 처음 저장은 UniqueViewerCounter가 JdbcTemplate으로 합니다 (다른 인스턴스와 중복 키 처리).
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "question_view_sketches")
+public class QuestionViewSketch {
+
+    @Id
+    @Column(name = "question_id")
+    private Long questionId;
+
+    @Column(nullable = false, columnDefinition = "VARBINARY(2048)")
+    private byte[] registers;
+
+    // 마지막으로 계산된 고유 조회자 추정값
+    @Column(nullable = false)
+    private long estimate;
+
+    @LastModifiedDate
+    @Column(name = "modified_at")
+    private LocalDateTime modifiedAt;
+
+    // 시간 구간 스케치를 합침 (추정값이 바뀌었으면 true)
+    public boolean merge(HyperLogLog window) {
+        HyperLogLog merged = HyperLogLog.fromBytes(registers);
+        if (!merged.merge(window)) {
+            return false;
+        }
+        this.registers = merged.toBytes();
+
+        long newEstimate = merged.estimate();
+        boolean changed = newEstimate != this.estimate;
+        this.estimate = newEstimate;
+        return changed;
+    }
+}
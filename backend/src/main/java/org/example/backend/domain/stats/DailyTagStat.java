@@ -0,0 +1,41 @@
+package org.example.backend.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일자 x 태그별 등록된 질문 수 (관리자 대시보드 집계용)
+ * 질문 등록/수정 시 같은 트랜잭션에서 증감되며, DailyStatsService.rebuild로 다시 계산할 수 있습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(DailyTagStat.Key.class)
+@Table(name = "daily_tag_stats", indexes = {@Index(name = "idx_daily_tag_stat_tag_date", columnList = "tag_id, stat_date")})
+public class DailyTagStat {
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Id
+    @Column(name = "tag_id")
+    private Long tagId;
+
+    @Column(name = "question_count", nullable = false)
+    private long questionCount;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate statDate;
+        private Long tagId;
+    }
+}
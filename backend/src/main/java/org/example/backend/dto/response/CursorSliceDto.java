@@ -0,0 +1,20 @@
+package org.example.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/*
+커서 기반 페이지 응답 Dto
+전체 개수를 세지 않고 다음 페이지 존재 여부와 다음 커서만 내려줌
+ */
+
+@Getter
+@AllArgsConstructor
+public class CursorSliceDto<T> {
+    private List<T> content;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+    private int size;
+}
@@ -0,0 +1,19 @@
+package org.example.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/*
+관리자 대시보드 시계열(일자별 질문 수)에 사용하는 Dto
+ */
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyCountDto {
+    private LocalDate date; // 일자 (예: 2025-01-01)
+    private long count;     // 해당 일자에 등록된 질문 수
+}
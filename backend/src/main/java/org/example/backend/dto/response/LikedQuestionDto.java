@@ -0,0 +1,23 @@
+package org.example.backend.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.With;
+
+import java.time.LocalDateTime;
+
+/*
+내가 추천한 질문 목록 Dto
+추천 일시와 질문 요약을 추천/질문 조인 쿼리 한 번으로 채움
+ */
+
+@Getter
+@AllArgsConstructor
+public class LikedQuestionDto {
+    @JsonIgnore
+    private Long likeId; // 커서 기준 (추천 일시가 같을 때 순서)
+    private LocalDateTime likedAt;
+    @With
+    private QuestionSummaryDto question;
+}
@@ -0,0 +1,76 @@
+package org.example.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+관리자 메트릭 요약 Dto (애플리케이션 시작 이후 누적값, 시간 단위는 ms)
+ */
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricsSummaryDto {
+    private List<Endpoint> endpoints;       // 컨트롤러 엔드포인트별 (요청 수 많은 순)
+    private List<Repository> repositories;  // 저장소 메서드별 (누적 시간 많은 순)
+    private Hibernate hibernate;
+    private ConnectionPool connectionPool;
+    private Map<String, Double> gauges;     // knowledgeout.* 게이지 (버퍼/캐시 크기 등)
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Endpoint {
+        private String method;
+        private String uri;
+        private long count;
+        private long clientErrors;      // 4xx
+        private long serverErrors;      // 5xx
+        private double meanMs;
+        private double maxMs;
+        private Double p95Ms;           // 성공 응답 기준 (기록이 없으면 null)
+        private Double p99Ms;
+        private Double meanStatements;  // 요청당 실행한 SQL 문장 수
+        private Double meanEntitiesLoaded;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Repository {
+        private String repository;
+        private String method;
+        private long count;
+        private double totalMs;
+        private double meanMs;
+        private double maxMs;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Hibernate {
+        private boolean statisticsEnabled;
+        private long preparedStatements;
+        private long entityLoads;
+        private long entityFetches;     // 지연 로딩으로 추가 조회한 엔티티 수
+        private long queryExecutions;
+        private long queryMaxMs;
+        private String slowestQuery;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ConnectionPool {
+        private Double active;
+        private Double idle;
+        private Double pending;         // 커넥션을 기다리는 스레드 수
+        private Double max;
+        private Double saturation;      // active / max
+    }
+}
@@ -1,7 +1,9 @@
 package org.example.backend.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.example.backend.domain.answer.Answer;
 import org.example.backend.domain.question.Question;
 
 import java.time.LocalDateTime;
@@ -15,7 +17,8 @@ public class QuestionResponseDto {
     private Long id;
     private String title;
     private String content;
-    private int viewCount;
+    private int viewCount; // 전체 조회수 (새로고침 포함)
+    private int uniqueViewCount; // 고유 조회자 수 (추정값)
     private int answerCount; // [추가] 답변 개수 (프론트엔드 상태 표시용)
     private boolean status; // 질문 상태
     private LocalDateTime createdAt;
@@ -33,24 +36,40 @@ public class QuestionResponseDto {
     
     private long likeCount; // 추천 수
 
+    // 답변 첫 페이지만 내려준 경우 다음 페이지 커서 (GET /questions/{id}/answers/cursor에 전달)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String answerNextCursor;
+
     public static QuestionResponseDto fromEntity(Question question) {
         return fromEntity(question, 0);
     }
     
     public static QuestionResponseDto fromEntity(Question question, long likeCount) {
+        return fromEntity(question, likeCount, question.getViewCount());
+    }
+
+    // viewCount: 아직 DB에 반영되지 않은 조회수까지 합산한 값
+    public static QuestionResponseDto fromEntity(Question question, long likeCount, int viewCount) {
         // 답변 목록을 생성일시 기준 오름차순으로 정렬하여 변환 (soft delete 필터링)
         List<AnswerResponseDto> answers = question.getAnswers().stream()
-                .filter(org.example.backend.domain.answer.Answer::isNotDeleted) // 삭제되지 않은 답변만
-                .sorted(Comparator.comparing(org.example.backend.domain.answer.Answer::getCreatedAt))
+                .filter(Answer::isNotDeleted) // 삭제되지 않은 답변만
+                .sorted(Comparator.comparing(Answer::getCreatedAt))
                 .map(AnswerResponseDto::fromEntity)
                 .collect(Collectors.toList());
-        
+
+        return of(question, answers, answers.size(), null, likeCount, viewCount);
+    }
+
+    // 답변을 따로 조회한 경우 (answerCount: 삭제되지 않은 전체 답변 수, answers가 첫 페이지뿐이면 answerNextCursor 포함)
+    public static QuestionResponseDto of(Question question, List<AnswerResponseDto> answers, int answerCount,
+                                         String answerNextCursor, long likeCount, int viewCount) {
         return new QuestionResponseDto(
                 question.getId(),
                 question.getTitle(),
                 question.getContent(),
-                question.getViewCount(),
-                answers.size(), // 삭제되지 않은 답변 개수
+                viewCount,
+                question.getUniqueViewCount(),
+                answerCount, // 삭제되지 않은 답변 개수
                 question.isStatus(), // status 필드 추가
                 question.getCreatedAt(),
                 question.getModifiedAt(),
@@ -67,7 +86,8 @@ public class QuestionResponseDto {
                 // 답변 목록
                 answers,
                 // 추천 수
-                likeCount
+                likeCount,
+                answerNextCursor
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package org.example.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+질문 검색 결과 Dto (관련도순)
+title, snippet은 HTML 이스케이프 후 검색어를 <mark> 태그로 감싼 값
+ */
+
+@Getter
+@AllArgsConstructor
+public class QuestionSearchHitDto {
+    private Long id;
+    private String title;
+    private String snippet;
+    private double score; // BM25 점수
+}
@@ -0,0 +1,36 @@
+package org.example.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.With;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+질문 목록 화면용 요약 Dto
+엔티티를 로딩하지 않고 프로젝션 쿼리 결과로 바로 채움 (답변 목록, 전체 본문 제외)
+ */
+
+@Getter
+@AllArgsConstructor
+public class QuestionSummaryDto {
+    private Long id;
+    private String title;
+    private String contentSnippet; // 본문 앞부분
+    @With
+    private int viewCount;
+    private int uniqueViewCount;
+    private long answerCount; // 삭제되지 않은 답변 개수
+    @With
+    private long likeCount;
+    private LocalDateTime createdAt;
+
+    private Long memberId;
+    private String memberNickname;
+
+    private Long categoryId;
+    private String categoryName;
+
+    private List<String> tagNames;
+}
@@ -0,0 +1,16 @@
+package org.example.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+토큰 인증 모드에서 로그인/재발급 시 반환하는 Dto
+ */
+
+@Getter
+@AllArgsConstructor
+public class TokenResponseDto {
+    private String accessToken;   // Authorization: Bearer 헤더에 사용
+    private String refreshToken;  // access 토큰 만료 시 재발급에 사용
+    private long expiresIn;       // access 토큰 유효 시간 (초)
+}
@@ -0,0 +1,12 @@
+package org.example.backend.event;
+
+/**
+ * 답변 등록/수정/삭제 이벤트
+ *
+ * @param questionDeleted  답변이 달린 질문이 삭제된 상태인지 여부
+ * @param answeredBefore   변경 전 질문에 삭제되지 않은 답변이 있었는지 여부
+ * @param answeredAfter    변경 후 질문에 삭제되지 않은 답변이 있는지 여부
+ */
+public record AnswerChangedEvent(Long answerId, Long questionId, ChangeType type, Long categoryId,
+                                 boolean questionDeleted, boolean answeredBefore, boolean answeredAfter) {
+}
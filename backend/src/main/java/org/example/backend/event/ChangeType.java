@@ -0,0 +1,7 @@
+package org.example.backend.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,26 @@
+package org.example.backend.event;
+
+/**
+ * 질문 등록/수정/삭제 이벤트
+ * 트랜잭션 커밋 후 검색 색인, 질문 수 집계 등 메모리 상태를 갱신하는 데 사용합니다.
+ *
+ * @param categoryId         현재 카테고리 (DELETED면 삭제 직전 카테고리)
+ * @param previousCategoryId 수정 전 카테고리 (UPDATED에서만 사용)
+ * @param answered           삭제되지 않은 답변이 있는지 여부 (DELETED면 삭제 직전 상태)
+ */
+public record QuestionChangedEvent(Long questionId, ChangeType type, String title, String content,
+                                   Long categoryId, Long previousCategoryId, boolean answered) {
+
+    public static QuestionChangedEvent created(Long questionId, String title, String content, Long categoryId, boolean answered) {
+        return new QuestionChangedEvent(questionId, ChangeType.CREATED, title, content, categoryId, null, answered);
+    }
+
+    public static QuestionChangedEvent updated(Long questionId, String title, String content,
+                                               Long categoryId, Long previousCategoryId, boolean answered) {
+        return new QuestionChangedEvent(questionId, ChangeType.UPDATED, title, content, categoryId, previousCategoryId, answered);
+    }
+
+    public static QuestionChangedEvent deleted(Long questionId, Long categoryId, boolean answered) {
+        return new QuestionChangedEvent(questionId, ChangeType.DELETED, null, null, categoryId, null, answered);
+    }
+}
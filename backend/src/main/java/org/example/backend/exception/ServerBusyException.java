@@ -0,0 +1,17 @@
+package org.example.backend.exception;
+
+/**
+ * 처리 대기열이 가득 차서 요청을 받을 수 없을 때 발생 (503 + Retry-After)
+ */
+public class ServerBusyException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ServerBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
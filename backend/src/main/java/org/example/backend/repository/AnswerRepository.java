@@ -1,15 +1,68 @@
 package org.example.backend.repository;
 
 import org.example.backend.domain.answer.Answer;
+import org.example.backend.dto.response.MyAnswerResponseDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
-    List<Answer> findByMemberIdAndStatusFalseOrderByCreatedAtDesc(Long memberId);
-    List<Answer> findByQuestionIdAndStatusFalseOrderByCreatedAtAsc(Long questionId);
+    // 회원이 작성한 삭제되지 않은 답변 (최신순, 질문 제목까지 한 번의 쿼리로 조회)
+    @Query("SELECT new org.example.backend.dto.response.MyAnswerResponseDto(a.id, a.content, a.createdAt, q.id, q.title) " +
+            "FROM Answer a JOIN a.question q " +
+            "WHERE a.member.id = :memberId AND a.status = false " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<MyAnswerResponseDto> findMyAnswers(@Param("memberId") Long memberId);
+
+    // 위와 같은 조회의 첫 페이지 (pageable은 개수 제한에만 사용)
+    @Query("SELECT new org.example.backend.dto.response.MyAnswerResponseDto(a.id, a.content, a.createdAt, q.id, q.title) " +
+            "FROM Answer a JOIN a.question q " +
+            "WHERE a.member.id = :memberId AND a.status = false " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<MyAnswerResponseDto> findMyAnswers(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 커서(작성일시, ID) 이전 페이지 (idx_answer_member_created_at_id 인덱스 순서)
+    @Query("SELECT new org.example.backend.dto.response.MyAnswerResponseDto(a.id, a.content, a.createdAt, q.id, q.title) " +
+            "FROM Answer a JOIN a.question q " +
+            "WHERE a.member.id = :memberId AND a.status = false " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<MyAnswerResponseDto> findMyAnswersBefore(@Param("memberId") Long memberId,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    // 질문의 삭제되지 않은 답변 (작성일시, ID 오름차순)
+    // 작성자는 fetch join, 태그는 default_batch_fetch_size로 답변 전체를 IN 쿼리로 묶어서 조회
+    @Query("SELECT a FROM Answer a JOIN FETCH a.member " +
+            "WHERE a.question.id = :questionId AND a.status = false " +
+            "ORDER BY a.createdAt ASC, a.id ASC")
+    List<Answer> findActiveWithMember(@Param("questionId") Long questionId);
+
+    // 위와 같은 조회의 첫 페이지 (pageable은 개수 제한에만 사용)
+    @Query("SELECT a FROM Answer a JOIN FETCH a.member " +
+            "WHERE a.question.id = :questionId AND a.status = false " +
+            "ORDER BY a.createdAt ASC, a.id ASC")
+    List<Answer> findActiveWithMember(@Param("questionId") Long questionId, Pageable pageable);
+
+    // 커서(작성일시, ID) 다음 페이지 (idx_answer_question_created_at_id 인덱스 순서)
+    @Query("SELECT a FROM Answer a JOIN FETCH a.member " +
+            "WHERE a.question.id = :questionId AND a.status = false " +
+            "AND (a.createdAt > :createdAt OR (a.createdAt = :createdAt AND a.id > :id)) " +
+            "ORDER BY a.createdAt ASC, a.id ASC")
+    List<Answer> findActiveWithMemberAfter(@Param("questionId") Long questionId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
     
     // 삭제되지 않은 답변만 조회 (status = false)
     Optional<Answer> findByIdAndStatusFalse(Long id);
+
+    // 질문에 달린 삭제되지 않은 답변 수
+    long countByQuestionIdAndStatusFalse(Long questionId);
 }
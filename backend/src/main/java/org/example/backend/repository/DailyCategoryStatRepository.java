@@ -0,0 +1,38 @@
+package org.example.backend.repository;
+
+import org.example.backend.domain.stats.DailyCategoryStat;
+import org.example.backend.dto.response.ItemCountDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyCategoryStatRepository extends JpaRepository<DailyCategoryStat, DailyCategoryStat.Key> {
+
+    //기간 내 카테고리별 질문 수 (일자 버킷 합계, 많은 순)
+    @Query("SELECT new org.example.backend.dto.response.ItemCountDto(c.name, SUM(s.questionCount)) FROM DailyCategoryStat s " +
+            "JOIN Category c ON c.id = s.categoryId " +
+            "WHERE s.statDate BETWEEN :from AND :to " +
+            "GROUP BY c.name " +
+            "HAVING SUM(s.questionCount) > 0 " +
+            "ORDER BY SUM(s.questionCount) DESC, c.name ASC")
+    List<ItemCountDto> sumByCategory(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    //전체 기간 카테고리별 질문 수 (많은 순)
+    @Query("SELECT new org.example.backend.dto.response.ItemCountDto(c.name, SUM(s.questionCount)) FROM DailyCategoryStat s " +
+            "JOIN Category c ON c.id = s.categoryId " +
+            "GROUP BY c.name " +
+            "HAVING SUM(s.questionCount) > 0 " +
+            "ORDER BY SUM(s.questionCount) DESC, c.name ASC")
+    List<ItemCountDto> sumAllByCategory(Pageable pageable);
+
+    //특정 카테고리의 일자별 질문 수 (값이 있는 날짜만)
+    @Query("SELECT s.statDate, s.questionCount FROM DailyCategoryStat s " +
+            "JOIN Category c ON c.id = s.categoryId " +
+            "WHERE c.name = :name AND s.statDate BETWEEN :from AND :to " +
+            "ORDER BY s.statDate ASC")
+    List<Object[]> findSeriesRaw(@Param("name") String name, @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
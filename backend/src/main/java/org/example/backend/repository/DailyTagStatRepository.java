@@ -0,0 +1,38 @@
+package org.example.backend.repository;
+
+import org.example.backend.domain.stats.DailyTagStat;
+import org.example.backend.dto.response.ItemCountDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyTagStatRepository extends JpaRepository<DailyTagStat, DailyTagStat.Key> {
+
+    //기간 내 태그별 질문 수 (일자 버킷 합계, 많은 순)
+    @Query("SELECT new org.example.backend.dto.response.ItemCountDto(t.name, SUM(s.questionCount)) FROM DailyTagStat s " +
+            "JOIN Tag t ON t.id = s.tagId " +
+            "WHERE s.statDate BETWEEN :from AND :to " +
+            "GROUP BY t.name " +
+            "HAVING SUM(s.questionCount) > 0 " +
+            "ORDER BY SUM(s.questionCount) DESC, t.name ASC")
+    List<ItemCountDto> sumByTag(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    //전체 기간 태그별 질문 수 (많은 순)
+    @Query("SELECT new org.example.backend.dto.response.ItemCountDto(t.name, SUM(s.questionCount)) FROM DailyTagStat s " +
+            "JOIN Tag t ON t.id = s.tagId " +
+            "GROUP BY t.name " +
+            "HAVING SUM(s.questionCount) > 0 " +
+            "ORDER BY SUM(s.questionCount) DESC, t.name ASC")
+    List<ItemCountDto> sumAllByTag(Pageable pageable);
+
+    //특정 태그의 일자별 질문 수 (값이 있는 날짜만)
+    @Query("SELECT s.statDate, s.questionCount FROM DailyTagStat s " +
+            "JOIN Tag t ON t.id = s.tagId " +
+            "WHERE t.name = :name AND s.statDate BETWEEN :from AND :to " +
+            "ORDER BY s.statDate ASC")
+    List<Object[]> findSeriesRaw(@Param("name") String name, @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -1,17 +1,25 @@
 package org.example.backend.repository;
 
+import org.example.backend.domain.question.Question;
 import org.example.backend.domain.question.QuestionLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Optional;
 
 public interface QuestionLikeRepository extends JpaRepository<QuestionLike, Long> {
-    List<QuestionLike> findByMemberId(Long memberId);
-    
-    // 특정 질문에 대한 사용자의 좋아요 조회
-    Optional<QuestionLike> findByQuestionIdAndMemberId(Long questionId, Long memberId);
-    
-    // 특정 질문에 대한 좋아요 개수 조회
-    long countByQuestionId(Long questionId);
+    // 회원이 추천한 삭제되지 않은 질문 (추천 일시 최신순)
+    @Query("SELECT q FROM QuestionLike ql JOIN ql.question q " +
+            "WHERE ql.member.id = :memberId AND q.status = false " +
+            "ORDER BY ql.createdAt DESC, ql.id DESC")
+    List<Question> findLikedQuestions(@Param("memberId") Long memberId);
+
+    // 추천 취소 (추천하지 않았으면 0 반환)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM QuestionLike ql WHERE ql.question.id = :questionId AND ql.member.id = :memberId")
+    int deleteByQuestionIdAndMemberId(@Param("questionId") Long questionId, @Param("memberId") Long memberId);
 }
@@ -0,0 +1,35 @@
+package org.example.backend.repository;
+
+import org.example.backend.domain.question.Question;
+import org.example.backend.dto.response.LikedQuestionDto;
+import org.example.backend.dto.response.QuestionCountDto;
+import org.example.backend.dto.response.QuestionSummaryDto;
+import org.example.backend.service.QuestionListVersion;
+import org.example.backend.support.KeysetCursor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Specification 조건을 그대로 사용하면서 엔티티 대신 목록용 컬럼만 조회하는 쿼리
+ */
+public interface QuestionQueryRepository {
+
+    // 질문 요약 목록 (작성자, 카테고리, 답변 수, 좋아요 수를 한 번의 쿼리로 조회하고 태그는 질문 ID IN 쿼리 한 번)
+    Page<QuestionSummaryDto> findSummaries(Specification<Question> spec, Pageable pageable);
+
+    // 질문 요약 목록 (COUNT 쿼리 없이 limit 건만 조회, 커서 기반 페이지네이션용)
+    List<QuestionSummaryDto> findSummaries(Specification<Question> spec, Sort sort, int limit);
+
+    // 회원이 추천한 삭제되지 않은 질문 요약 (추천 일시 최신순, before 이후 limit 건, 추천과 질문을 조인한 쿼리 한 번)
+    List<LikedQuestionDto> findLikedSummaries(Long memberId, KeysetCursor before, int limit);
+
+    // 전체/답변대기/답변완료 질문 수 (조건부 집계 쿼리 한 번)
+    QuestionCountDto countByAnswerState(Specification<Question> spec);
+
+    // 목록 조건에 맞는 질문의 버전 (질문 수, 최대 ID, 내용 버전/추천 수 합계, 최근 수정 일시를 집계 쿼리 한 번으로)
+    QuestionListVersion findListVersion(Specification<Question> spec);
+}
@@ -0,0 +1,276 @@
+package org.example.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.example.backend.domain.answer.Answer;
+import org.example.backend.domain.category.Category;
+import org.example.backend.domain.member.Member;
+import org.example.backend.domain.question.Question;
+import org.example.backend.domain.question.QuestionLike;
+import org.example.backend.dto.response.LikedQuestionDto;
+import org.example.backend.dto.response.QuestionCountDto;
+import org.example.backend.dto.response.QuestionSummaryDto;
+import org.example.backend.service.QuestionListVersion;
+import org.example.backend.support.KeysetCursor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class QuestionQueryRepositoryImpl implements QuestionQueryRepository {
+
+    // 목록에 노출할 본문 길이
+    static final int SNIPPET_LENGTH = 150;
+    // summarySelections 컬럼 수 (추가 컬럼은 이 위치부터)
+    private static final int SUMMARY_COLUMNS = 12;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<QuestionSummaryDto> findSummaries(Specification<Question> spec, Pageable pageable) {
+        TypedQuery<Tuple> typedQuery = createSummaryQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<QuestionSummaryDto> content = typedQuery.getResultList().stream()
+                .map(QuestionQueryRepositoryImpl::toSummary)
+                .toList();
+        fillTagNames(content);
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<QuestionSummaryDto> findSummaries(Specification<Question> spec, Sort sort, int limit) {
+        List<QuestionSummaryDto> content = createSummaryQuery(spec, sort)
+                .setMaxResults(limit)
+                .getResultList().stream()
+                .map(QuestionQueryRepositoryImpl::toSummary)
+                .toList();
+        fillTagNames(content);
+        return content;
+    }
+
+    @Override
+    public List<LikedQuestionDto> findLikedSummaries(Long memberId, KeysetCursor before, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<QuestionLike> like = query.from(QuestionLike.class);
+        Join<QuestionLike, Question> question = like.join("question", JoinType.INNER);
+
+        List<Selection<?>> selections = new ArrayList<>(summarySelections(query, cb, question));
+        selections.add(like.get("id"));
+        selections.add(like.get("createdAt"));
+        query.multiselect(selections);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(like.get("member").get("id"), memberId));
+        predicates.add(cb.equal(question.get("status"), false));
+        if (before != null) {
+            // (추천 일시, 추천 ID) 내림차순 seek 조건
+            predicates.add(cb.or(
+                    cb.lessThan(like.get("createdAt"), before.createdAt()),
+                    cb.and(
+                            cb.equal(like.get("createdAt"), before.createdAt()),
+                            cb.lessThan(like.get("id"), before.id())
+                    )
+            ));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(cb.desc(like.get("createdAt")), cb.desc(like.get("id")));
+
+        List<LikedQuestionDto> content = entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList().stream()
+                .map(row -> new LikedQuestionDto(
+                        row.get(SUMMARY_COLUMNS, Long.class),
+                        row.get(SUMMARY_COLUMNS + 1, LocalDateTime.class),
+                        toSummary(row)))
+                .toList();
+        fillTagNames(content.stream().map(LikedQuestionDto::getQuestion).toList());
+        return content;
+    }
+
+    private TypedQuery<Tuple> createSummaryQuery(Specification<Question> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Question> root = query.from(Question.class);
+        query.multiselect(summarySelections(query, cb, root));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    // 요약 목록 컬럼 (순서는 toSummary와 맞춤, 태그는 fillTagNames에서 따로 조회)
+    private List<Selection<?>> summarySelections(CriteriaQuery<?> query, CriteriaBuilder cb, From<?, Question> root) {
+        Join<Question, Member> member = root.join("member", JoinType.LEFT);
+        Join<Question, Category> category = root.join("category", JoinType.LEFT);
+
+        return List.of(
+                root.get("id"),
+                root.get("title"),
+                // 잘렸는지 알 수 있도록 한 글자 더 가져옴
+                cb.substring(root.get("content"), 1, SNIPPET_LENGTH + 1),
+                root.get("viewCount"),
+                root.get("uniqueViewCount"),
+                answerCount(query, cb, root),
+                root.get("likeCount"),
+                root.get("createdAt"),
+                member.get("id"),
+                member.get("nickname"),
+                category.get("id"),
+                category.get("name")
+        );
+    }
+
+    @Override
+    public QuestionCountDto countByAnswerState(Specification<Question> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Question> root = query.from(Question.class);
+
+        // 삭제되지 않은 답변이 있으면 1, 없으면 0
+        Expression<Long> answered = cb.<Long>selectCase()
+                .when(cb.exists(activeAnswer(query, cb, root)), 1L)
+                .otherwise(0L);
+        query.multiselect(cb.count(root), cb.sum(answered));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        Tuple row = entityManager.createQuery(query).getSingleResult();
+        long total = row.get(0, Long.class);
+        Long answeredCount = row.get(1, Long.class);
+        long answeredTotal = answeredCount != null ? answeredCount : 0L;
+        return new QuestionCountDto(total, total - answeredTotal, answeredTotal);
+    }
+
+    @Override
+    public QuestionListVersion findListVersion(Specification<Question> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Question> root = query.from(Question.class);
+        query.multiselect(
+                cb.count(root),
+                cb.max(root.<Long>get("id")),
+                cb.sum(root.<Long>get("contentVersion")),
+                cb.sum(root.<Long>get("likeCount")),
+                cb.greatest(root.<LocalDateTime>get("modifiedAt"))
+        );
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        // 조건에 맞는 질문이 없으면 합계/최대값은 null
+        Tuple row = entityManager.createQuery(query).getSingleResult();
+        Long contentVersionSum = row.get(2, Long.class);
+        Long likeCountSum = row.get(3, Long.class);
+        return new QuestionListVersion(
+                row.get(0, Long.class),
+                row.get(1, Long.class),
+                contentVersionSum != null ? contentVersionSum : 0L,
+                likeCountSum != null ? likeCountSum : 0L,
+                row.get(4, LocalDateTime.class));
+    }
+
+    private long count(Specification<Question> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Question> root = query.from(Question.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(query.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    // 삭제되지 않은 답변 수
+    private Subquery<Long> answerCount(CriteriaQuery<?> query, CriteriaBuilder cb, From<?, Question> root) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<Answer> answer = subquery.from(Answer.class);
+        return subquery.select(cb.count(answer))
+                .where(
+                        cb.equal(answer.get("question"), root),
+                        cb.equal(answer.get("status"), false)
+                );
+    }
+
+    // 삭제되지 않은 답변 존재 여부 (EXISTS)
+    private Subquery<Long> activeAnswer(CriteriaQuery<?> query, CriteriaBuilder cb, Root<Question> root) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<Answer> answer = subquery.from(Answer.class);
+        return subquery.select(answer.get("id"))
+                .where(
+                        cb.equal(answer.get("question"), root),
+                        cb.equal(answer.get("status"), false)
+                );
+    }
+
+    // 목록에 나온 질문들의 태그 이름 (질문 ID IN 쿼리 한 번)
+    // 태그를 문자열 하나로 합치면(MySQL GROUP_CONCAT) group_concat_max_len에서 잘리므로 행으로 조회
+    private void fillTagNames(List<QuestionSummaryDto> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        Map<Long, QuestionSummaryDto> byId = new HashMap<>();
+        summaries.forEach(summary -> byId.put(summary.getId(), summary));
+
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT qt.question.id, t.name FROM QuestionTag qt JOIN qt.tag t " +
+                                "WHERE qt.question.id IN :questionIds ORDER BY t.name", Object[].class)
+                .setParameter("questionIds", byId.keySet())
+                .getResultList();
+        for (Object[] row : rows) {
+            byId.get((Long) row[0]).getTagNames().add((String) row[1]);
+        }
+    }
+
+    private static QuestionSummaryDto toSummary(Tuple row) {
+        String content = row.get(2, String.class);
+        String snippet = content != null && content.length() > SNIPPET_LENGTH
+                ? content.substring(0, SNIPPET_LENGTH) + "..."
+                : content;
+
+        return new QuestionSummaryDto(
+                row.get(0, Long.class),
+                row.get(1, String.class),
+                snippet,
+                row.get(3, Integer.class),
+                row.get(4, Integer.class),
+                row.get(5, Long.class),
+                row.get(6, Long.class),
+                row.get(7, LocalDateTime.class),
+                row.get(8, Long.class),
+                row.get(9, String.class),
+                row.get(10, Long.class),
+                row.get(11, String.class),
+                new ArrayList<>()
+        );
+    }
+}
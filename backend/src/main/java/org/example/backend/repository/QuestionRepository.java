@@ -1,65 +1,85 @@
 package org.example.backend.repository;
 
+import jakarta.persistence.LockModeType;
 import org.example.backend.domain.question.Question;
-import org.example.backend.dto.response.ItemCountDto;
+import org.example.backend.service.QuestionVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface QuestionRepository extends JpaRepository<Question, Long>, JpaSpecificationExecutor<Question> {
+public interface QuestionRepository extends JpaRepository<Question, Long>, JpaSpecificationExecutor<Question>, QuestionQueryRepository {
 
     //기본 페이징 조회
     Page<Question> findAll(Pageable pageable);
 
-    //조회수 증가
-    @Modifying(clearAutomatically = true)
-    @Query("update Question q set q.viewCount = q.viewCount + 1 where q.id = :id")
-    void updateViewCount(@Param("id") Long id);
+    //검색 색인용 삭제되지 않은 질문 (ID 순서로 나눠서 조회)
+    @Query("SELECT q.id, q.title, q.content FROM Question q " +
+            "WHERE q.status = false AND q.id > :afterId " +
+            "ORDER BY q.id ASC")
+    List<Object[]> findSearchableAfterRaw(@Param("afterId") Long afterId, Pageable pageable);
 
-    //특정 회원이 작성한 질문 목록 (최신순)
-    List<Question> findByMemberIdOrderByCreatedAtDesc(Long memberId);
+    //검색 색인 따라잡기용 since 이후 변경된 질문 (삭제된 질문 포함, 변경 시각 순서)
+    @Query("SELECT q.id, q.title, q.content, q.status, q.modifiedAt FROM Question q " +
+            "WHERE q.modifiedAt > :since " +
+            "ORDER BY q.modifiedAt ASC, q.id ASC")
+    List<Object[]> findModifiedSinceRaw(@Param("since") LocalDateTime since, Pageable pageable);
 
-    //특정 회원이 작성한 삭제되지 않은 질문 목록 (최신순)
-    List<Question> findByMemberIdAndStatusFalseOrderByCreatedAtDesc(Long memberId);
+    //카테고리별 삭제되지 않은 질문 수와 답변이 달린 질문 수 (카테고리 ID, 전체, 답변완료)
+    @Query("SELECT q.category.id, COUNT(q), " +
+            "SUM(CASE WHEN EXISTS (SELECT 1 FROM Answer a WHERE a.question = q AND a.status = false) THEN 1 ELSE 0 END) " +
+            "FROM Question q " +
+            "WHERE q.status = false " +
+            "GROUP BY q.category.id")
+    List<Object[]> countByCategoryAndAnswerStateRaw();
+
+    //질문 행 잠금 조회 (답변 등록/삭제 시 답변 수 확인과 변경을 질문 단위로 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT q FROM Question q WHERE q.id = :id")
+    Optional<Question> findByIdForUpdate(@Param("id") Long id);
+
+    //DB에 반영된 추천 수 (질문이 없으면 empty)
+    @Query("SELECT q.likeCount FROM Question q WHERE q.id = :id")
+    Optional<Long> findLikeCountById(@Param("id") Long id);
 
+    //질문 내용 버전과 DB에 반영된 추천 수/조회수 (질문이 없으면 empty)
+    @Query("SELECT new org.example.backend.service.QuestionVersion(q.id, q.contentVersion, q.likeCount, q.viewCount) " +
+            "FROM Question q WHERE q.id = :id")
+    Optional<QuestionVersion> findVersionById(@Param("id") Long id);
 
-    //인기 태그 Top N (이름 반환 + 개 수 반환)
-    // 경로: Question -> QuestionTag -> Tag -> name
-    @Query("SELECT new org.example.backend.dto.response.ItemCountDto(t.name, COUNT(q)) FROM Question q " +
-            "JOIN q.questionTags qt " +
-            "JOIN qt.tag t " +
-            "WHERE q.createdAt >= :startDate " + //날짜 필터링 추가
-            "GROUP BY t.name " +
-            "ORDER BY COUNT(q) DESC, t.name ASC")
-    List<ItemCountDto> findTopTags(@Param("startDate") LocalDateTime startDate, Pageable pageable);
+    //질문 내용 버전 올리기 (동시에 변경해도 빠지지 않도록 DB에서 1 증가)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Question q SET q.contentVersion = q.contentVersion + 1 WHERE q.id = :id")
+    int incrementContentVersion(@Param("id") Long id);
 
-    //인기 카테고리 Top N (이름 반환 + 개수 반환)
-    @Query("SELECT new org.example.backend.dto.response.ItemCountDto(c.name, COUNT(q)) FROM Question q " +
-            "JOIN q.category c " +
-            "WHERE q.createdAt >= :startDate " + //날짜 필터링 추가
-            "GROUP BY c.name " +
-            "ORDER BY COUNT(q) DESC, c.name ASC")
-    List<ItemCountDto> findTopCategories(@Param("startDate") LocalDateTime startDate, Pageable pageable);
+    //회원이 작성한 질문과 답변한 질문의 내용 버전 올리기
+    @Transactional
+    @Modifying
+    @Query("UPDATE Question q SET q.contentVersion = q.contentVersion + 1 " +
+            "WHERE q.member.id = :memberId OR q.id IN (SELECT a.question.id FROM Answer a WHERE a.member.id = :memberId)")
+    int incrementContentVersionByMember(@Param("memberId") Long memberId);
 
-    //카테고리별 질문 수 통계
-    @Query("SELECT c.name, COUNT(q) FROM Question q " +
-            "JOIN q.category c " +
-            "GROUP BY c.name")
-    List<Object[]> countQuestionsByCategoryRaw();
+    //카테고리에 속한 질문의 내용 버전 올리기
+    @Transactional
+    @Modifying
+    @Query("UPDATE Question q SET q.contentVersion = q.contentVersion + 1 WHERE q.category.id IN :categoryIds")
+    int incrementContentVersionByCategories(@Param("categoryIds") Collection<Long> categoryIds);
 
-    //태그별 질문 수 통계
-    @Query("SELECT t.name, COUNT(q) FROM Question q " +
-            "JOIN q.questionTags qt " +
-            "JOIN qt.tag t " +
-            "GROUP BY t.name " +
-            "ORDER BY COUNT(q) DESC")
-    List<Object[]> countQuestionsByTagRaw(Pageable pageable);
-}
\ No newline at end of file
+    //특정 회원이 작성한 질문 목록 (최신순)
+    List<Question> findByMemberIdOrderByCreatedAtDesc(Long memberId);
+
+    //특정 회원이 작성한 삭제되지 않은 질문 목록 (최신순)
+    List<Question> findByMemberIdAndStatusFalseOrderByCreatedAtDesc(Long memberId);
+}
@@ -2,39 +2,117 @@ package org.example.backend.repository;
 
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
 import org.example.backend.domain.answer.Answer;
-import org.example.backend.domain.category.Category;
 import org.example.backend.domain.question.Question;
 import org.example.backend.domain.question.QuestionTag;
 import org.example.backend.domain.tag.Tag;
+import org.example.backend.support.KeysetCursor;
+import org.example.backend.support.TagNames;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 public class QuestionSpecification {
 
+    // 질문 목록/개수/목록 ETag 공통 조건 (삭제되지 않은 질문 + 검색어 + 카테고리 + 태그 + 답변 상태 순서로 조합)
+    // search, category는 호출한 쪽에서 만든 조건 (없으면 null), tag, status는 null이면 거르지 않음
+    public static Specification<Question> forList(Specification<Question> search, Specification<Question> category,
+                                                  String tag, String status) {
+        List<Specification<Question>> specs = new ArrayList<>();
+        specs.add(isNotDeleted());
+        if (search != null) {
+            specs.add(search);
+        }
+        if (category != null) {
+            specs.add(category);
+        }
+        // 태그를 클릭해서 들어온 경우 (URL 파라미터 ?tag=...)
+        if (tag != null) {
+            specs.add(hasTag(tag));
+        }
+        if (status != null) {
+            specs.add(filterByStatus(status));
+        }
+        return Specification.allOf(specs);
+    }
+
     //삭제되지 않은 질문(status = false)만 필터링
     public static Specification<Question> isNotDeleted() {
         return (root, query, criteriaBuilder) ->
                 criteriaBuilder.equal(root.get("status"), false);
     }
 
-    // 1. 카테고리 이름으로 필터링
-    public static Specification<Question> equalCategory(String categoryName) {
+    // 1. 카테고리 ID로 필터링 (category_id 컬럼 비교, 조인 없음)
+    // 이름은 호출하는 쪽에서 CategoryCache로 ID로 바꾸며, 존재하지 않는 카테고리(null)면 결과 없음
+    public static Specification<Question> equalCategoryId(Long categoryId) {
         return (root, query, criteriaBuilder) -> {
-            if (categoryName == null || categoryName.isEmpty()) return null;
-            Join<Question, Category> category = root.join("category", JoinType.INNER);
-            return criteriaBuilder.equal(category.get("name"), categoryName);
+            if (categoryId == null) return criteriaBuilder.disjunction();
+            return criteriaBuilder.equal(root.get("category").get("id"), categoryId);
         };
     }
 
     // 2. 태그 이름으로 필터링
+    // (조인 대신 서브쿼리로 처리해서 행이 중복되지 않으므로 DISTINCT가 필요 없음)
     public static Specification<Question> hasTag(String tagName) {
+        if (tagName == null || tagName.isEmpty()) return (root, query, criteriaBuilder) -> null;
+        return hasAnyTag(List.of(tagName));
+    }
+
+    // 2-1. 태그를 모두 가진 질문 (태그 수와 관계없이 서브쿼리 하나)
+    // 태그 등록과 같은 규칙(TagNames)으로 중복을 제거해야 #Java #java처럼 DB에서 한 태그인 이름을 두 개로 세지 않음
+    public static Specification<Question> hasAllTags(Collection<String> tagNames) {
         return (root, query, criteriaBuilder) -> {
-            if (tagName == null || tagName.isEmpty()) return null;
-            Join<Question, QuestionTag> questionTags = root.join("questionTags", JoinType.INNER);
-            Join<QuestionTag, Tag> tag = questionTags.join("tag", JoinType.INNER);
-            query.distinct(true);
-            return criteriaBuilder.equal(tag.get("name"), tagName);
+            if (tagNames == null || tagNames.isEmpty()) return null;
+            Map<String, String> byKey = new LinkedHashMap<>();
+            for (String tagName : tagNames) {
+                String name = TagNames.normalize(tagName);
+                byKey.putIfAbsent(TagNames.key(name), name);
+            }
+            Collection<String> names = byKey.values();
+            if (names.size() == 1) {
+                return hasAnyTag(names).toPredicate(root, query, criteriaBuilder);
+            }
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<QuestionTag> questionTag = subquery.from(QuestionTag.class);
+            Join<QuestionTag, Tag> tag = questionTag.join("tag", JoinType.INNER);
+            subquery.select(questionTag.get("question").get("id"))
+                    .where(tag.get("name").in(names))
+                    .groupBy(questionTag.get("question").get("id"))
+                    .having(criteriaBuilder.equal(criteriaBuilder.countDistinct(tag.get("name")), (long) names.size()));
+            return root.get("id").in(subquery);
+        };
+    }
+
+    // 2-2. 태그 중 하나라도 가진 질문
+    public static Specification<Question> hasAnyTag(Collection<String> tagNames) {
+        return (root, query, criteriaBuilder) -> {
+            if (tagNames == null || tagNames.isEmpty()) return null;
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<QuestionTag> questionTag = subquery.from(QuestionTag.class);
+            Join<QuestionTag, Tag> tag = questionTag.join("tag", JoinType.INNER);
+            subquery.select(questionTag.get("id"))
+                    .where(
+                            criteriaBuilder.equal(questionTag.get("question"), root),
+                            tagNames.size() == 1
+                                    ? criteriaBuilder.equal(tag.get("name"), tagNames.iterator().next())
+                                    : tag.get("name").in(tagNames)
+                    );
+            return criteriaBuilder.exists(subquery);
+        };
+    }
+
+    // 2-3. 태그를 하나도 갖지 않은 질문
+    public static Specification<Question> hasNoneOfTags(Collection<String> tagNames) {
+        return (root, query, criteriaBuilder) -> {
+            if (tagNames == null || tagNames.isEmpty()) return null;
+            return criteriaBuilder.not(hasAnyTag(tagNames).toPredicate(root, query, criteriaBuilder));
         };
     }
 
@@ -81,4 +159,53 @@ public class QuestionSpecification {
             );
         };
     }
-}
\ No newline at end of file
+
+    // 5. 커서 이후 데이터 (createdAt DESC, id DESC 정렬 기준 seek 조건)
+    public static Specification<Question> beforeCursor(KeysetCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            if (cursor == null) return null;
+            return criteriaBuilder.or(
+                    criteriaBuilder.lessThan(root.get("createdAt"), cursor.createdAt()),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(root.get("createdAt"), cursor.createdAt()),
+                            criteriaBuilder.lessThan(root.get("id"), cursor.id())
+                    )
+            );
+        };
+    }
+
+    // 6. 질문 ID 목록으로 필터링 (검색 색인 결과 적용)
+    public static Specification<Question> idIn(Collection<Long> ids) {
+        return (root, query, criteriaBuilder) -> {
+            if (ids.isEmpty()) return criteriaBuilder.disjunction();
+            return root.get("id").in(ids);
+        };
+    }
+
+    // 7. 작성자 닉네임으로 필터링
+    public static Specification<Question> authorNickname(String nickname) {
+        return (root, query, criteriaBuilder) -> {
+            if (nickname == null || nickname.isEmpty()) return null;
+            return criteriaBuilder.equal(root.get("member").get("nickname"), nickname);
+        };
+    }
+
+    // 8. 작성일 범위로 필터링 (from 이상, to 미만, null이면 해당 쪽 제한 없음)
+    public static Specification<Question> createdBetween(LocalDateTime from, LocalDateTime to) {
+        return (root, query, criteriaBuilder) -> {
+            if (from == null && to == null) return null;
+            if (from == null) return criteriaBuilder.lessThan(root.get("createdAt"), to);
+            if (to == null) return criteriaBuilder.greaterThanOrEqualTo(root.get("createdAt"), from);
+            return criteriaBuilder.and(
+                    criteriaBuilder.greaterThanOrEqualTo(root.get("createdAt"), from),
+                    criteriaBuilder.lessThan(root.get("createdAt"), to)
+            );
+        };
+    }
+
+    // 9. 작성자 ID로 필터링 (member_id 컬럼 비교, 조인 없음)
+    public static Specification<Question> equalMemberId(Long memberId) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get("member").get("id"), memberId);
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.backend.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.backend.domain.question.QuestionViewSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface QuestionViewSketchRepository extends JpaRepository<QuestionViewSketch, Long> {
+
+    //스케치 행 잠금 조회 (여러 인스턴스가 같은 질문의 구간을 동시에 합쳐도 빠지지 않도록, 질문 ID 순서로 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM QuestionViewSketch s WHERE s.questionId IN :questionIds ORDER BY s.questionId")
+    List<QuestionViewSketch> findAllByIdForUpdate(@Param("questionIds") Collection<Long> questionIds);
+}
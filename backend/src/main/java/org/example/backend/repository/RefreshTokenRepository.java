@@ -0,0 +1,25 @@
+package org.example.backend.repository;
+
+import org.example.backend.domain.member.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    // refresh 토큰 사용/폐기 (이미 사용했거나 폐기된 토큰이면 0 반환)
+    // 행 잠금으로 같은 토큰을 동시에 재발급에 사용해도 한 요청만 1을 받음
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.id = :id AND r.memberId = :memberId")
+    int deleteByIdAndMemberId(@Param("id") Long id, @Param("memberId") Long memberId);
+
+    // 회원의 모든 refresh 토큰 폐기 (비밀번호 변경, 탈퇴)
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    // 회원의 만료된 refresh 토큰 정리 (새로 발급할 때)
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.memberId = :memberId AND r.expiresAt <= :now")
+    int deleteExpired(@Param("memberId") Long memberId, @Param("now") long now);
+}
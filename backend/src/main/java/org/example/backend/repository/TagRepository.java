@@ -3,8 +3,12 @@ package org.example.backend.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.example.backend.domain.tag.Tag;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByName(String tagName);
+
+    List<Tag> findByNameIn(Collection<String> names);
 }
@@ -0,0 +1,182 @@
+package org.example.backend.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 질문 제목/내용 역색인 (메모리)
+ * - term -> (문서 ID -> 출현 빈도) postings
+ * - BM25로 순위를 매기고, 후보 문서는 원문에 검색어가 실제로 포함되는지 다시 확인해서
+ *   기존 LIKE '%검색어%' 와 같은 결과를 돌려줍니다.
+ */
+public class InvertedIndex {
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 제목에 나온 토큰 가중치
+    private static final int TITLE_WEIGHT = 2;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalLength = 0;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record Document(String title, String content, String normalizedTitle, String normalizedContent, int length) {
+    }
+
+    public record ScoredDocument(Long id, double score) {
+    }
+
+    // 문서 추가 또는 교체
+    public void put(Long id, String title, String content) {
+        String normalizedTitle = NGramTokenizer.normalize(title);
+        String normalizedContent = NGramTokenizer.normalize(content);
+
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String token : NGramTokenizer.tokenize(normalizedTitle)) {
+            termFrequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : NGramTokenizer.tokenize(normalizedContent)) {
+            termFrequencies.merge(token, 1, Integer::sum);
+        }
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            documents.put(id, new Document(title, content, normalizedTitle, normalizedContent, length));
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(id, frequency));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<Document> get(Long id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(documents.get(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어가 제목 또는 내용에 포함된 문서를 BM25 점수 내림차순으로 반환합니다.
+     */
+    public List<ScoredDocument> search(String keyword) {
+        String normalizedKeyword = NGramTokenizer.normalize(keyword).trim();
+        if (normalizedKeyword.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // 한 글자 토큰은 다른 bigram 안에 포함될 수 있으므로 후보를 좁히는 데 쓰지 않음 (원문 확인으로 처리)
+        Set<String> terms = new LinkedHashSet<>();
+        for (String token : NGramTokenizer.tokenize(normalizedKeyword)) {
+            if (token.length() >= NGramTokenizer.GRAM_SIZE) {
+                terms.add(token);
+            }
+        }
+
+        lock.readLock().lock();
+        try {
+            Collection<Long> candidates = candidates(terms);
+            double averageLength = documents.isEmpty() ? 1.0 : (double) totalLength / documents.size();
+
+            List<ScoredDocument> results = new ArrayList<>();
+            for (Long id : candidates) {
+                Document document = documents.get(id);
+                if (document == null
+                        || !(document.normalizedTitle().contains(normalizedKeyword)
+                        || document.normalizedContent().contains(normalizedKeyword))) {
+                    continue;
+                }
+                results.add(new ScoredDocument(id, score(id, document, terms, averageLength)));
+            }
+            results.sort(Comparator.comparingDouble(ScoredDocument::score).reversed()
+                    .thenComparing(ScoredDocument::id, Comparator.reverseOrder()));
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 모든 term을 포함하는 문서 (가장 짧은 postings부터 교집합)
+    private Collection<Long> candidates(Set<String> terms) {
+        if (terms.isEmpty()) {
+            return new ArrayList<>(documents.keySet());
+        }
+        List<Map<Long, Integer>> lists = new ArrayList<>();
+        for (String term : terms) {
+            Map<Long, Integer> list = postings.get(term);
+            if (list == null) {
+                return Collections.emptyList();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Map::size));
+
+        List<Long> result = new ArrayList<>();
+        outer:
+        for (Long id : lists.get(0).keySet()) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).containsKey(id)) {
+                    continue outer;
+                }
+            }
+            result.add(id);
+        }
+        return result;
+    }
+
+    private double score(Long id, Document document, Set<String> terms, double averageLength) {
+        int documentCount = documents.size();
+        double score = 0;
+        for (String term : terms) {
+            Map<Long, Integer> list = postings.get(term);
+            int frequency = list.getOrDefault(id, 0);
+            double idf = Math.log(1 + (documentCount - list.size() + 0.5) / (list.size() + 0.5));
+            double norm = frequency + K1 * (1 - B + B * document.length() / averageLength);
+            score += idf * (frequency * (K1 + 1)) / norm;
+        }
+        return score;
+    }
+
+    private void removeInternal(Long id) {
+        Document previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length();
+        Set<String> terms = new HashSet<>(NGramTokenizer.tokenize(previous.normalizedTitle()));
+        terms.addAll(NGramTokenizer.tokenize(previous.normalizedContent()));
+        for (String term : terms) {
+            Map<Long, Integer> list = postings.get(term);
+            if (list != null) {
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
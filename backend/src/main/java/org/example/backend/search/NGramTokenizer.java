@@ -0,0 +1,57 @@
+package org.example.backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 문자 n-gram(bigram) 토크나이저
+ * 띄어쓰기나 조사에 관계없이 부분 문자열로 검색되도록 한국어/영어 모두 2글자 단위로 자릅니다.
+ * 예: "Spring 부트" -> [sp, pr, ri, in, ng, 부트]
+ */
+public final class NGramTokenizer {
+
+    static final int GRAM_SIZE = 2;
+
+    private NGramTokenizer() {
+    }
+
+    // 검색 비교용 정규화 (유니코드 호환 정규화 + 소문자)
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화된 텍스트를 글자/숫자 구간별로 나눈 뒤 bigram을 만듭니다.
+     * 한 글자짜리 구간은 그대로 토큰이 됩니다.
+     */
+    public static List<String> tokenize(String normalized) {
+        List<String> tokens = new ArrayList<>();
+        int length = normalized.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean letter = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                addGrams(normalized, start, i, tokens);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addGrams(String text, int start, int end, List<String> tokens) {
+        if (end - start < GRAM_SIZE) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + GRAM_SIZE <= end; i++) {
+            tokens.add(text.substring(i, i + GRAM_SIZE));
+        }
+    }
+}
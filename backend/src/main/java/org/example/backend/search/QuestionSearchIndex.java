@@ -0,0 +1,161 @@
+package org.example.backend.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.dto.response.QuestionSearchHitDto;
+import org.example.backend.event.ChangeType;
+import org.example.backend.event.QuestionChangedEvent;
+import org.example.backend.repository.QuestionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 질문 검색 색인
+ * - 애플리케이션 시작 시 삭제되지 않은 질문 전체를 색인하고, 이후에는 질문 변경 이벤트로 증분 갱신
+ * - 다른 인스턴스에서 바뀐 질문은 이벤트가 오지 않으므로 modified_at 기준으로 주기적으로 따라잡음
+ *   (다른 인스턴스의 변경은 최대 catch-up-ms 늦게 검색에 반영)
+ * - 색인이 준비되기 전에는 isReady()가 false이므로 호출하는 쪽에서 LIKE 검색으로 대체
+ */
+@Slf4j
+@Component
+public class QuestionSearchIndex {
+
+    private static final int BUILD_BATCH_SIZE = 500;
+
+    private final QuestionRepository questionRepository;
+    private final long catchUpOverlapMs;
+    private final InvertedIndex index = new InvertedIndex();
+    // 초기 색인 중에 이벤트로 갱신된 질문 (오래된 스냅샷으로 덮어쓰지 않도록)
+    private final Set<Long> touchedDuringBuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean building = false;
+    private volatile boolean ready = false;
+    // 따라잡기로 반영한 마지막 변경 시각
+    private volatile LocalDateTime caughtUpTo;
+
+    public QuestionSearchIndex(QuestionRepository questionRepository,
+                               @Value("${knowledgeout.search.catch-up-overlap-ms:30000}") long catchUpOverlapMs) {
+        this.questionRepository = questionRepository;
+        this.catchUpOverlapMs = catchUpOverlapMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        building = true;
+        long startedAt = System.currentTimeMillis();
+        // 색인하는 동안 바뀐 질문은 따라잡기에서 다시 읽음
+        caughtUpTo = LocalDateTime.now();
+        long lastId = 0L;
+        try {
+            while (true) {
+                List<Object[]> rows = questionRepository.findSearchableAfterRaw(lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+                for (Object[] row : rows) {
+                    Long id = (Long) row[0];
+                    if (!touchedDuringBuild.contains(id)) {
+                        index.put(id, (String) row[1], (String) row[2]);
+                    }
+                    lastId = id;
+                }
+                if (rows.size() < BUILD_BATCH_SIZE) {
+                    break;
+                }
+            }
+            ready = true;
+            log.info("질문 검색 색인 완료: {}건, {}ms", index.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("질문 검색 색인 실패, LIKE 검색을 계속 사용합니다.", e);
+        } finally {
+            building = false;
+            touchedDuringBuild.clear();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onQuestionChanged(QuestionChangedEvent event) {
+        if (building) {
+            touchedDuringBuild.add(event.questionId());
+        }
+        if (event.type() == ChangeType.DELETED) {
+            index.remove(event.questionId());
+        } else {
+            index.put(event.questionId(), event.title(), event.content());
+        }
+    }
+
+    // 다른 인스턴스에서 추가/수정/삭제된 질문 반영
+    // 커밋 지연과 서버 간 시계 차이를 고려해 마지막으로 본 변경 시각보다 overlap만큼 앞부터 다시 읽음
+    // (이미 반영한 질문을 다시 읽어도 같은 내용으로 덮어쓸 뿐이고, 이벤트보다 먼저 읽은 오래된 내용은 다음 주기에 바로잡힘)
+    @Scheduled(initialDelayString = "${knowledgeout.search.catch-up-ms:5000}",
+            fixedDelayString = "${knowledgeout.search.catch-up-ms:5000}")
+    public void catchUp() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime since = caughtUpTo.minusNanos(catchUpOverlapMs * 1_000_000);
+        LocalDateTime latest = caughtUpTo;
+        int page = 0;
+        try {
+            while (true) {
+                List<Object[]> rows = questionRepository.findModifiedSinceRaw(since, PageRequest.of(page++, BUILD_BATCH_SIZE));
+                for (Object[] row : rows) {
+                    Long id = (Long) row[0];
+                    if (Boolean.TRUE.equals(row[3])) {
+                        index.remove(id);
+                    } else {
+                        index.put(id, (String) row[1], (String) row[2]);
+                    }
+                    LocalDateTime modifiedAt = (LocalDateTime) row[4];
+                    if (modifiedAt.isAfter(latest)) {
+                        latest = modifiedAt;
+                    }
+                }
+                if (rows.size() < BUILD_BATCH_SIZE) {
+                    break;
+                }
+            }
+            caughtUpTo = latest;
+        } catch (RuntimeException e) {
+            log.warn("질문 검색 색인 따라잡기 실패: {}", e.getMessage());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 색인된 질문 수
+    public int size() {
+        return index.size();
+    }
+
+    // 검색어가 포함된 질문 ID (관련도순)
+    public List<Long> findIds(String keyword) {
+        return index.search(keyword).stream()
+                .map(InvertedIndex.ScoredDocument::id)
+                .toList();
+    }
+
+    // 관련도순 검색 결과 (강조된 제목/스니펫 포함)
+    public List<QuestionSearchHitDto> search(String keyword, int limit) {
+        return index.search(keyword).stream()
+                .limit(limit)
+                .map(hit -> index.get(hit.id())
+                        .map(document -> new QuestionSearchHitDto(
+                                hit.id(),
+                                SnippetHighlighter.highlight(document.title(), keyword.trim()),
+                                SnippetHighlighter.snippet(document.content(), keyword.trim()),
+                                hit.score()))
+                        .orElse(null))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
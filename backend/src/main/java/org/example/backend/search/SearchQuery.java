@@ -0,0 +1,43 @@
+package org.example.backend.search;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 검색어 문법을 파싱한 결과 (구문 트리)
+ */
+public sealed interface SearchQuery {
+
+    // 제목/내용 검색어
+    record Term(String text) implements SearchQuery {
+    }
+
+    // #태그 또는 tag:태그
+    record TagName(String name) implements SearchQuery {
+    }
+
+    // category:카테고리
+    record CategoryName(String name) implements SearchQuery {
+    }
+
+    // author:닉네임
+    record Author(String nickname) implements SearchQuery {
+    }
+
+    // created:2024-01-01..2024-01-31 (양 끝 포함, 한쪽 생략 가능)
+    record CreatedRange(LocalDate from, LocalDate to) implements SearchQuery {
+    }
+
+    // is:answered / is:waiting
+    record AnswerState(boolean answered) implements SearchQuery {
+    }
+
+    record Not(SearchQuery query) implements SearchQuery {
+    }
+
+    record And(List<SearchQuery> queries) implements SearchQuery {
+    }
+
+    record Or(List<SearchQuery> queries) implements SearchQuery {
+    }
+}
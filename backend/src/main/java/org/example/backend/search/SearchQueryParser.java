@@ -0,0 +1,259 @@
+package org.example.backend.search;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색창 검색어 문법 파서
+ *
+ * <pre>
+ * 스프링 부트            두 단어를 모두 포함 (AND)
+ * "스프링 부트"          구문 그대로 포함
+ * #java tag:spring       태그 (여러 개면 모두 가진 질문)
+ * #java OR #kotlin       둘 중 하나
+ * -#legacy -deprecated   제외
+ * category:백엔드  author:닉네임
+ * created:2024-01-01..2024-01-31  created:2024-01-01..  after:2024-01-01  before:2024-02-01
+ * is:answered  is:waiting
+ * (a OR b) c             괄호로 묶기
+ * </pre>
+ * 알 수 없는 한정자(예: foo:bar)는 일반 검색어로 취급합니다.
+ * 재귀 하강 파서이므로 검색어 길이와 괄호/제외(-) 중첩 깊이를 제한합니다 (넘으면 IllegalArgumentException).
+ */
+public final class SearchQueryParser {
+
+    static final int MAX_QUERY_LENGTH = 256;
+    static final int MAX_DEPTH = 16;
+
+    private static final String OR = "OR";
+    private static final String AND = "AND";
+
+    private final List<String> tokens;
+    private int position = 0;
+    private int depth = 0;
+
+    private SearchQueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    // 빈 검색어면 null
+    public static SearchQuery parse(String input) {
+        if (input != null && input.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MAX_QUERY_LENGTH + "자 이하로 입력해주세요.");
+        }
+        List<String> tokens = tokenize(input == null ? "" : input);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        SearchQueryParser parser = new SearchQueryParser(tokens);
+        List<SearchQuery> parts = new ArrayList<>();
+        while (parser.hasNext()) {
+            // 짝이 맞지 않는 닫는 괄호는 무시
+            if (parser.peek().equals(")")) {
+                parser.next();
+                continue;
+            }
+            SearchQuery part = parser.parseOr();
+            if (part != null) {
+                parts.add(part);
+            }
+        }
+        return and(parts);
+    }
+
+    private SearchQuery parseOr() {
+        List<SearchQuery> alternatives = new ArrayList<>();
+        SearchQuery first = parseAnd();
+        if (first != null) {
+            alternatives.add(first);
+        }
+        while (hasNext() && (peek().equals(OR) || peek().equals("|"))) {
+            next();
+            SearchQuery alternative = parseAnd();
+            if (alternative != null) {
+                alternatives.add(alternative);
+            }
+        }
+        if (alternatives.isEmpty()) {
+            return null;
+        }
+        return alternatives.size() == 1 ? alternatives.get(0) : new SearchQuery.Or(alternatives);
+    }
+
+    private SearchQuery parseAnd() {
+        List<SearchQuery> parts = new ArrayList<>();
+        while (hasNext()) {
+            String token = peek();
+            if (token.equals(")") || token.equals(OR) || token.equals("|")) {
+                break;
+            }
+            if (token.equals(AND)) {
+                next();
+                continue;
+            }
+            SearchQuery part = parseUnary();
+            if (part != null) {
+                parts.add(part);
+            }
+        }
+        return and(parts);
+    }
+
+    private SearchQuery parseUnary() {
+        String token = next();
+        if (token.equals("-")) {
+            if (!hasNext()) {
+                return null;
+            }
+            enter();
+            SearchQuery negated = parseUnary();
+            depth--;
+            return negated == null ? null : new SearchQuery.Not(negated);
+        }
+        if (token.equals("(")) {
+            enter();
+            SearchQuery group = parseOr();
+            depth--;
+            if (hasNext() && peek().equals(")")) {
+                next();
+            }
+            return group;
+        }
+        if (token.length() > 1 && token.startsWith("-")) {
+            SearchQuery negated = atom(token.substring(1));
+            return negated == null ? null : new SearchQuery.Not(negated);
+        }
+        return atom(token);
+    }
+
+    private static SearchQuery atom(String token) {
+        if (isQuoted(token)) {
+            String phrase = unquote(token).trim();
+            return phrase.isEmpty() ? null : new SearchQuery.Term(phrase);
+        }
+        if (token.startsWith("#")) {
+            String name = unquote(token.substring(1));
+            return name.isEmpty() ? null : new SearchQuery.TagName(name);
+        }
+
+        int colon = token.indexOf(':');
+        if (colon > 0 && colon < token.length() - 1) {
+            String key = token.substring(0, colon).toLowerCase(Locale.ROOT);
+            String value = unquote(token.substring(colon + 1));
+            switch (key) {
+                case "tag":
+                    return new SearchQuery.TagName(value);
+                case "category":
+                    return new SearchQuery.CategoryName(value);
+                case "author":
+                    return new SearchQuery.Author(value);
+                case "created":
+                    return createdRange(value);
+                case "after":
+                    return new SearchQuery.CreatedRange(date(value), null);
+                case "before":
+                    // before는 해당 날짜를 포함하지 않음
+                    return new SearchQuery.CreatedRange(null, date(value).minusDays(1));
+                case "is":
+                    String state = value.toLowerCase(Locale.ROOT);
+                    if (state.equals("answered")) return new SearchQuery.AnswerState(true);
+                    if (state.equals("waiting") || state.equals("unanswered")) return new SearchQuery.AnswerState(false);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return new SearchQuery.Term(token);
+    }
+
+    private static SearchQuery createdRange(String value) {
+        int separator = value.indexOf("..");
+        if (separator < 0) {
+            LocalDate day = date(value);
+            return new SearchQuery.CreatedRange(day, day);
+        }
+        String from = value.substring(0, separator);
+        String to = value.substring(separator + 2);
+        return new SearchQuery.CreatedRange(
+                from.isEmpty() ? null : date(from),
+                to.isEmpty() ? null : date(to));
+    }
+
+    private static LocalDate date(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다. (예: 2024-01-31)");
+        }
+    }
+
+    private static SearchQuery and(List<SearchQuery> parts) {
+        if (parts.isEmpty()) {
+            return null;
+        }
+        return parts.size() == 1 ? parts.get(0) : new SearchQuery.And(parts);
+    }
+
+    private static boolean isQuoted(String token) {
+        return token.length() >= 2 && token.startsWith("\"") && token.endsWith("\"");
+    }
+
+    private static String unquote(String value) {
+        return value.replace("\"", "");
+    }
+
+    // 공백 기준으로 나누되 따옴표 안의 공백은 유지, 괄호와 단독 '-'는 별도 토큰
+    static List<String> tokenize(String input) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '"') {
+                inQuotes = !inQuotes;
+                current.append(c);
+            } else if (inQuotes) {
+                current.append(c);
+            } else if (Character.isWhitespace(c)) {
+                flush(current, tokens);
+            } else if (c == '(' || c == ')') {
+                flush(current, tokens);
+                tokens.add(String.valueOf(c));
+            } else if (c == '-' && current.isEmpty() && i + 1 < input.length() && input.charAt(i + 1) == '(') {
+                tokens.add("-");
+            } else {
+                current.append(c);
+            }
+        }
+        flush(current, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder current, List<String> tokens) {
+        if (!current.isEmpty()) {
+            tokens.add(current.toString());
+            current.setLength(0);
+        }
+    }
+
+    private void enter() {
+        if (++depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("검색어의 괄호와 제외(-)는 " + MAX_DEPTH + "단계까지 중첩할 수 있습니다.");
+        }
+    }
+
+    private boolean hasNext() {
+        return position < tokens.size();
+    }
+
+    private String peek() {
+        return tokens.get(position);
+    }
+
+    private String next() {
+        return tokens.get(position++);
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.backend.search;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.question.Question;
+import org.example.backend.repository.QuestionSpecification;
+import org.example.backend.service.CategoryCache;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 검색어를 하나의 Specification으로 변환
+ * - 같은 AND 안의 태그 조건은 서브쿼리 하나로, 검색어 조건은 색인 조회 한 번(교집합)으로 합침
+ * - 정규화된 검색어 단위로 변환 결과를 캐시 (검색어 조건은 조회 시점에 색인을 사용하므로 캐시해도 최신 결과)
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchSpecificationCompiler {
+
+    private static final int CACHE_SIZE = 1000;
+    // 검색 색인 결과를 IN 조건으로 넘기는 최대 질문 수
+    private static final int MAX_ID_FILTER = 1000;
+
+    private final QuestionSearchIndex questionSearchIndex;
+    private final CategoryCache categoryCache;
+
+    private final Map<String, Specification<Question>> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Specification<Question>> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+
+    // 빈 검색어면 null
+    public Specification<Question> compile(String search) {
+        String normalized = normalize(search);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        Specification<Question> cached = cache.get(normalized);
+        if (cached != null) {
+            return cached;
+        }
+        SearchQuery query = SearchQueryParser.parse(normalized);
+        Specification<Question> spec = query == null ? null : compile(query);
+        if (spec != null) {
+            cache.put(normalized, spec);
+        }
+        return spec;
+    }
+
+    // 연속된 공백을 하나로 (OR/AND 키워드와 검색어 대소문자는 유지)
+    static String normalize(String search) {
+        return search == null ? "" : search.trim().replaceAll("\\s+", " ");
+    }
+
+    private Specification<Question> compile(SearchQuery query) {
+        return switch (query) {
+            case SearchQuery.And and -> compileAnd(and.queries());
+            case SearchQuery.Or or -> compileOr(or.queries());
+            case SearchQuery.Not not -> not.query() instanceof SearchQuery.TagName tag
+                    ? QuestionSpecification.hasNoneOfTags(List.of(tag.name()))
+                    : Specification.not(compile(not.query()));
+            case SearchQuery.Term term -> keywords(List.of(term.text()));
+            case SearchQuery.TagName tag -> QuestionSpecification.hasTag(tag.name());
+            case SearchQuery.CategoryName category -> categoryName(category.name());
+            case SearchQuery.Author author -> QuestionSpecification.authorNickname(author.nickname());
+            case SearchQuery.CreatedRange range -> QuestionSpecification.createdBetween(
+                    startOfDay(range.from()),
+                    range.to() == null ? null : startOfDay(range.to().plusDays(1)));
+            case SearchQuery.AnswerState state -> QuestionSpecification.filterByStatus(state.answered() ? "ANSWERED" : "WAITING");
+        };
+    }
+
+    // 캐시된 Specification이 카테고리 변경 후에도 맞도록 이름 -> ID 변환은 조회 시점에 수행
+    private Specification<Question> categoryName(String name) {
+        return (root, query, cb) -> QuestionSpecification.equalCategoryId(categoryCache.findId(name).orElse(null))
+                .toPredicate(root, query, cb);
+    }
+
+    private Specification<Question> compileAnd(List<SearchQuery> queries) {
+        Set<String> requiredTags = new LinkedHashSet<>();
+        Set<String> excludedTags = new LinkedHashSet<>();
+        List<String> terms = new ArrayList<>();
+        List<Specification<Question>> others = new ArrayList<>();
+
+        for (SearchQuery query : queries) {
+            if (query instanceof SearchQuery.TagName tag) {
+                requiredTags.add(tag.name());
+            } else if (query instanceof SearchQuery.Not not && not.query() instanceof SearchQuery.TagName tag) {
+                excludedTags.add(tag.name());
+            } else if (query instanceof SearchQuery.Term term) {
+                terms.add(term.text());
+            } else {
+                others.add(compile(query));
+            }
+        }
+
+        List<Specification<Question>> specs = new ArrayList<>();
+        if (!requiredTags.isEmpty()) specs.add(QuestionSpecification.hasAllTags(requiredTags));
+        if (!excludedTags.isEmpty()) specs.add(QuestionSpecification.hasNoneOfTags(excludedTags));
+        if (!terms.isEmpty()) specs.add(keywords(terms));
+        specs.addAll(others);
+        return combine(specs, true);
+    }
+
+    private Specification<Question> compileOr(List<SearchQuery> queries) {
+        // 태그만으로 이루어진 OR는 IN 조건 하나로
+        if (queries.stream().allMatch(query -> query instanceof SearchQuery.TagName)) {
+            List<String> tags = queries.stream()
+                    .map(query -> ((SearchQuery.TagName) query).name())
+                    .distinct()
+                    .toList();
+            return QuestionSpecification.hasAnyTag(tags);
+        }
+        return combine(queries.stream().map(this::compile).toList(), false);
+    }
+
+    private static Specification<Question> combine(List<Specification<Question>> specs, boolean and) {
+        Specification<Question> result = null;
+        for (Specification<Question> spec : specs) {
+            if (result == null) {
+                result = spec;
+            } else {
+                result = and ? result.and(spec) : result.or(spec);
+            }
+        }
+        return result;
+    }
+
+    // 제목/내용 검색어 (모두 포함), 색인이 준비되지 않았거나 일치하는 질문이 너무 많으면 LIKE 검색
+    private Specification<Question> keywords(List<String> keywords) {
+        return (root, query, criteriaBuilder) -> {
+            Set<Long> ids = questionSearchIndex.isReady() ? matchedIds(keywords) : null;
+            if (ids == null) {
+                Specification<Question> like = combine(
+                        keywords.stream().map(QuestionSpecification::containsKeyword).toList(), true);
+                return like.toPredicate(root, query, criteriaBuilder);
+            }
+            return QuestionSpecification.idIn(ids).toPredicate(root, query, criteriaBuilder);
+        };
+    }
+
+    // 모든 검색어가 들어 있는 질문 ID (MAX_ID_FILTER건을 넘으면 null)
+    // 흔한 검색어는 IN 목록이 길어질수록 LIKE보다 느리고 MySQL 자리표시자 한도(65,535)도 넘을 수 있음
+    // LIKE는 정렬 인덱스(created_at)를 따라 읽다가 페이지가 차면 멈추므로 일치하는 질문이 많을수록 빨리 끝남
+    private Set<Long> matchedIds(List<String> keywords) {
+        Set<Long> ids = null;
+        for (String keyword : keywords) {
+            Set<Long> matched = new HashSet<>(questionSearchIndex.findIds(keyword));
+            if (ids == null) {
+                ids = matched;
+            } else {
+                ids.retainAll(matched);
+            }
+            if (ids.isEmpty()) {
+                break;
+            }
+        }
+        return ids.size() > MAX_ID_FILTER ? null : ids;
+    }
+
+    private static LocalDateTime startOfDay(LocalDate date) {
+        return date == null ? null : date.atStartOfDay();
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.backend.search;
+
+/**
+ * 검색 결과 스니펫 생성
+ * 원문을 HTML 이스케이프한 뒤 검색어 부분을 <mark>로 감쌉니다.
+ */
+public final class SnippetHighlighter {
+
+    private static final String OPEN_TAG = "<mark>";
+    private static final String CLOSE_TAG = "</mark>";
+    // 첫 번째 일치 위치 앞뒤로 보여줄 글자 수
+    private static final int CONTEXT_BEFORE = 40;
+    private static final int CONTEXT_AFTER = 100;
+
+    private SnippetHighlighter() {
+    }
+
+    // 전체 텍스트에서 검색어 강조 (제목용)
+    public static String highlight(String text, String keyword) {
+        if (text == null) {
+            return "";
+        }
+        return highlightRange(text, keyword, 0, text.length());
+    }
+
+    // 첫 번째 일치 위치 주변만 잘라서 강조 (본문용)
+    public static String snippet(String text, String keyword) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        int first = indexOfIgnoreCase(text, keyword, 0);
+        int start = first < 0 ? 0 : Math.max(0, first - CONTEXT_BEFORE);
+        int end = Math.min(text.length(), (first < 0 ? 0 : first) + CONTEXT_AFTER);
+
+        StringBuilder sb = new StringBuilder();
+        if (start > 0) {
+            sb.append("...");
+        }
+        sb.append(highlightRange(text, keyword, start, end));
+        if (end < text.length()) {
+            sb.append("...");
+        }
+        return sb.toString();
+    }
+
+    private static String highlightRange(String text, String keyword, int start, int end) {
+        StringBuilder sb = new StringBuilder();
+        int position = start;
+        while (position < end) {
+            int match = keyword.isEmpty() ? -1 : indexOfIgnoreCase(text, keyword, position);
+            if (match < 0 || match >= end) {
+                break;
+            }
+            int matchEnd = Math.min(end, match + keyword.length());
+            appendEscaped(sb, text, position, match);
+            sb.append(OPEN_TAG);
+            appendEscaped(sb, text, match, matchEnd);
+            sb.append(CLOSE_TAG);
+            position = matchEnd;
+        }
+        appendEscaped(sb, text, position, end);
+        return sb.toString();
+    }
+
+    private static int indexOfIgnoreCase(String text, String keyword, int from) {
+        for (int i = from; i + keyword.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, keyword, 0, keyword.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void appendEscaped(StringBuilder sb, String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '&' -> sb.append("&amp;");
+                case '"' -> sb.append("&quot;");
+                case '\'' -> sb.append("&#39;");
+                default -> sb.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.backend.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.exception.ServerBusyException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 해시(BCrypt)를 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * - 로그인/가입이 몰려도 해시에 쓰는 CPU를 스레드 수만큼으로 제한해서 조회 요청이 밀리지 않도록 함
+ * - 대기열이 가득 차거나 대기 시간이 지나면 바로 ServerBusyException (503 + Retry-After)
+ * - 저장된 해시의 cost가 설정값과 다르면 로그인 성공 시 다시 해시 (대기열이 한가할 때만)
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$");
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder delegate;
+    private final int strength;
+    private final long timeoutMs;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int strength, int threads, int queueCapacity, long timeoutMs) {
+        this.delegate = delegate;
+        this.strength = strength;
+        this.timeoutMs = timeoutMs;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("knowledgeout.password.hash")
+                .description("Time spent hashing passwords")
+                .tag("operation", "encode")
+                .register(Metrics.globalRegistry);
+        this.matchesTimer = Timer.builder("knowledgeout.password.hash")
+                .description("Time spent hashing passwords")
+                .tag("operation", "matches")
+                .register(Metrics.globalRegistry);
+        this.waitTimer = Timer.builder("knowledgeout.password.queue.wait")
+                .description("Time password hash tasks spend waiting for a worker")
+                .register(Metrics.globalRegistry);
+        this.rejected = Counter.builder("knowledgeout.password.rejected")
+                .description("Password hash requests rejected because the queue was full")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("knowledgeout.password.queue", executor, e -> e.getQueue().size())
+                .description("Password hash tasks waiting for a worker")
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    // 저장된 cost가 설정과 다르면 다시 해시 (대기 중인 작업이 있으면 이번에는 건너뜀)
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || !executor.getQueue().isEmpty()) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    private <T> T submit(Callable<T> task) {
+        long queuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw busy();
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ServerBusyException busy() {
+        return new ServerBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", RETRY_AFTER_SECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.backend.security;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 현재 로그인한 회원(LoginMember) 주입
+ * 로그인하지 않은 경우 null
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@AuthenticationPrincipal(expression = "#this instanceof T(org.example.backend.security.MemberAdaptor) ? loginMember : null")
+public @interface CurrentMember {
+}
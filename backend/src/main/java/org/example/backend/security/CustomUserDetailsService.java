@@ -1,8 +1,10 @@
 package org.example.backend.security;
 
 import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.member.Member;
 import org.example.backend.repository.MemberRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -10,7 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
 
@@ -21,4 +23,14 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .map(MemberAdaptor::new)
                 .orElseThrow(() -> new UsernameNotFoundException("Member not found: " + email));
     }
-}
\ No newline at end of file
+
+    // 로그인 성공 후 해시 cost가 바뀌었으면 새 해시로 저장 (DaoAuthenticationProvider가 호출)
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = memberRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("Member not found: " + user.getUsername()));
+        member.updatePassword(newPassword);
+        return new MemberAdaptor(member);
+    }
+}
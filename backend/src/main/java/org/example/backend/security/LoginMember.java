@@ -0,0 +1,40 @@
+package org.example.backend.security;
+
+import org.example.backend.domain.member.Member;
+import org.example.backend.domain.member.MemberStatus;
+import org.example.backend.domain.member.Role;
+
+import java.io.Serializable;
+
+/**
+ * 세션에 저장되는 로그인 회원 정보 (불변)
+ * 로그인 시 한 번 만들어지며, 컨트롤러에서는 @CurrentMember로 주입받아 회원 ID/권한을 DB 조회 없이 사용합니다.
+ * issuedAt: 이 정보를 만든 시각 (MemberSessionRegistry에서 회원 정보 변경 이후인지 비교)
+ */
+public record LoginMember(
+        Long id,
+        String email,
+        String nickname,
+        Role role,
+        MemberStatus status,
+        long issuedAt
+) implements Serializable {
+
+    public static LoginMember from(Member member) {
+        return new LoginMember(
+                member.getId(),
+                member.getEmail(),
+                member.getNickname(),
+                member.getRole(),
+                member.getStatus(),
+                System.currentTimeMillis());
+    }
+
+    public boolean isAdmin() {
+        return role == Role.ROLE_ADMIN;
+    }
+
+    public boolean isActive() {
+        return status == MemberStatus.ACTIVE;
+    }
+}
@@ -7,10 +7,14 @@ import org.springframework.security.core.userdetails.User;
 
 import java.util.Collections;
 
+/**
+ * 인증 주체 (세션에 저장됨)
+ * JPA 엔티티(Member) 대신 LoginMember만 보관해서 세션 크기를 줄이고 지연 로딩 컬렉션이 세션에 남지 않도록 합니다.
+ */
 @Getter
 public class MemberAdaptor extends User {
 
-    private final Member member;
+    private final LoginMember loginMember;
 
     public MemberAdaptor(Member member) {
         super(member.getEmail(),
@@ -18,6 +22,16 @@ public class MemberAdaptor extends User {
                 member.isActive(),
                 true, true, true,
                 Collections.singletonList(new SimpleGrantedAuthority(member.getRole().name())));
-        this.member = member;
+        this.loginMember = LoginMember.from(member);
     }
-}
\ No newline at end of file
+
+    // 토큰 인증용 (비밀번호 없이 토큰의 회원 정보로 생성)
+    public MemberAdaptor(LoginMember loginMember) {
+        super(loginMember.email(),
+                "",
+                loginMember.isActive(),
+                true, true, true,
+                Collections.singletonList(new SimpleGrantedAuthority(loginMember.role().name())));
+        this.loginMember = loginMember;
+    }
+}
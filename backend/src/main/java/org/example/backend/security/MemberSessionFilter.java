@@ -0,0 +1,66 @@
+package org.example.backend.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.member.Member;
+import org.example.backend.repository.MemberRepository;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * 회원 정보가 바뀐 뒤의 첫 요청에서 세션의 LoginMember 갱신
+ * - 수정: DB에서 다시 읽어 세션의 인증 정보 교체
+ * - 탈퇴/없음: 인증 정보를 지우고 세션 무효화
+ * 바뀌지 않은 회원은 DB 조회 없이 통과합니다.
+ */
+@RequiredArgsConstructor
+public class MemberSessionFilter extends OncePerRequestFilter {
+
+    private final MemberSessionRegistry memberSessionRegistry;
+    private final MemberRepository memberRepository;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof MemberAdaptor adaptor
+                && memberSessionRegistry.isStale(adaptor.getLoginMember())) {
+            refresh(adaptor.getLoginMember(), request);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void refresh(LoginMember loginMember, HttpServletRequest request) {
+        Optional<Member> member = memberRepository.findById(loginMember.id()).filter(Member::isActive);
+        HttpSession session = request.getSession(false);
+
+        if (member.isEmpty()) {
+            SecurityContextHolder.clearContext();
+            if (session != null) {
+                session.invalidate();
+            }
+            return;
+        }
+
+        MemberAdaptor adaptor = new MemberAdaptor(member.get());
+        adaptor.eraseCredentials();
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(adaptor, null, adaptor.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+        if (session != null) {
+            session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, context);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.backend.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원 정보가 바뀐 시각 기록 (회원 ID -> 변경 시각)
+ * 이 시각 이전에 만들어진 세션의 LoginMember는 MemberSessionFilter가 다시 읽거나(수정) 로그아웃 처리(탈퇴)하고,
+ * 토큰 인증 모드에서는 이 시각 이전에 발급된 access 토큰을 거부합니다 (refresh 시 DB에서 다시 읽음).
+ * 변경 시각은 member_changes 테이블에 함께 기록하고 모든 인스턴스가 poll-ms마다 읽으므로,
+ * 다른 인스턴스에는 최대 poll-ms 늦게 반영됩니다 (요청마다 DB를 읽지 않도록 메모리에 보관).
+ */
+@Slf4j
+@Component
+public class MemberSessionRegistry {
+
+    // 세션 최대 유지 시간보다 오래된 기록은 필요 없음
+    private static final long RETENTION_MS = 24 * 60 * 60 * 1000L;
+    // 커밋 지연과 서버 간 시계 차이를 고려해 마지막으로 읽은 시각보다 이만큼 앞부터 다시 읽음
+    private static final long POLL_OVERLAP_MS = 30_000L;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO member_changes (member_id, changed_at) VALUES (?, ?) ON DUPLICATE KEY UPDATE changed_at = ?";
+    private static final String SELECT_SQL = "SELECT member_id, changed_at FROM member_changes WHERE changed_at > ?";
+    private static final String PURGE_SQL = "DELETE FROM member_changes WHERE changed_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, Long> changedAt = new ConcurrentHashMap<>();
+    // 처음에는 보관 기간 전체를 읽음
+    private volatile long polledUpTo = System.currentTimeMillis() - RETENTION_MS;
+
+    public MemberSessionRegistry(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 회원 정보 변경 (트랜잭션 안이면 변경과 함께 커밋되고, 메모리에는 커밋 후에 기록해서 변경 전 값을 다시 읽지 않도록 함)
+    public void invalidate(Long memberId) {
+        long now = System.currentTimeMillis();
+        jdbcTemplate.update(UPSERT_SQL, memberId, now, now);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(memberId, now);
+                }
+            });
+        } else {
+            record(memberId, now);
+        }
+    }
+
+    // 변경 기록을 보관 중인 회원 수
+    public int size() {
+        return changedAt.size();
+    }
+
+    public boolean isStale(LoginMember loginMember) {
+        Long changed = changedAt.get(loginMember.id());
+        return changed != null && loginMember.issuedAt() <= changed;
+    }
+
+    // 다른 인스턴스에서 기록한 변경 반영
+    @Scheduled(fixedDelayString = "${knowledgeout.auth.member-change-poll-ms:2000}")
+    public void poll() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            jdbcTemplate.query(SELECT_SQL,
+                    row -> { record(row.getLong(1), row.getLong(2)); },
+                    polledUpTo - POLL_OVERLAP_MS);
+            polledUpTo = startedAt;
+        } catch (RuntimeException e) {
+            log.warn("회원 정보 변경 기록 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelay = 60 * 60 * 1000L)
+    public void purge() {
+        long threshold = System.currentTimeMillis() - RETENTION_MS;
+        changedAt.values().removeIf(changed -> changed < threshold);
+        try {
+            jdbcTemplate.update(PURGE_SQL, threshold);
+        } catch (RuntimeException e) {
+            log.warn("회원 정보 변경 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void record(Long memberId, long changed) {
+        changedAt.merge(memberId, changed, Math::max);
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.backend.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authorization: Bearer {access token} 인증 (knowledgeout.auth.mode=token)
+ * 서명과 만료만 확인하며, 회원 정보가 바뀐(수정/탈퇴) 회원의 이전 토큰은 MemberSessionRegistry로 거부합니다.
+ * 거부된 요청은 인증 없이 진행되어 보호된 경로에서 401을 받고, 클라이언트는 refresh 토큰으로 다시 발급받습니다.
+ */
+@RequiredArgsConstructor
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenService tokenService;
+    private final MemberSessionRegistry memberSessionRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            tokenService.verify(header.substring(BEARER_PREFIX.length()).trim(), TokenService.ACCESS)
+                    .filter(LoginMember::isActive)
+                    .filter(member -> !memberSessionRegistry.isStale(member))
+                    .ifPresent(member -> {
+                        MemberAdaptor adaptor = new MemberAdaptor(member);
+                        SecurityContext context = SecurityContextHolder.createEmptyContext();
+                        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                                adaptor, null, adaptor.getAuthorities()));
+                        SecurityContextHolder.setContext(context);
+                    });
+        }
+        filterChain.doFilter(request, response);
+    }
+}
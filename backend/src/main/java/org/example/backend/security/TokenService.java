@@ -0,0 +1,195 @@
+package org.example.backend.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.backend.domain.member.MemberStatus;
+import org.example.backend.domain.member.Role;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * HMAC-SHA256 서명 토큰 발급/검증 (knowledgeout.auth.mode=token)
+ * 형식: base64url(클레임 JSON) + "." + base64url(서명)
+ * 클레임: sub(회원 ID), typ(access/refresh), email, nickname, role, status, iat/exp(ms), jti(refresh 토큰 ID)
+ * access 토큰 검증은 서명과 만료 시각만 확인하므로 DB나 세션을 조회하지 않습니다.
+ * refresh 토큰은 AuthService가 jti로 폐기 여부를 DB에서 다시 확인합니다.
+ */
+@Component
+public class TokenService {
+
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final ThreadLocal<Mac> mac;
+    private final long accessTtlMs;
+    private final long refreshTtlMs;
+
+    public TokenService(ObjectMapper objectMapper,
+                        @Value("${knowledgeout.auth.mode:session}") String mode,
+                        @Value("${knowledgeout.auth.token.secret:}") String secret,
+                        @Value("${knowledgeout.auth.token.access-ttl-ms:900000}") long accessTtlMs,
+                        @Value("${knowledgeout.auth.token.refresh-ttl-ms:1209600000}") long refreshTtlMs) {
+        this.objectMapper = objectMapper;
+        this.enabled = "token".equals(mode);
+        this.accessTtlMs = accessTtlMs;
+        this.refreshTtlMs = refreshTtlMs;
+
+        SecretKeySpec key = new SecretKeySpec(secretBytes(secret, enabled), ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(ALGORITHM);
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    // 발급된 토큰 (만료 시각은 ms)
+    public record IssuedToken(String token, long expiresAt) {
+    }
+
+    // 검증된 refresh 토큰 (tokenId: jti, RefreshToken 행 ID)
+    public record RefreshClaims(Long memberId, Long tokenId) {
+    }
+
+    public IssuedToken issueAccessToken(LoginMember member) {
+        return issue(member, ACCESS, null, System.currentTimeMillis() + accessTtlMs);
+    }
+
+    // tokenId, expiresAt: 미리 저장한 RefreshToken 행의 ID와 만료 시각
+    public IssuedToken issueRefreshToken(LoginMember member, Long tokenId, long expiresAt) {
+        return issue(member, REFRESH, tokenId, expiresAt);
+    }
+
+    /**
+     * 서명, 종류, 만료 시각을 확인하고 토큰의 회원 정보를 반환
+     * 위조/만료/형식 오류는 모두 empty
+     */
+    public Optional<LoginMember> verify(String token, String type) {
+        return claims(token, type).map(claims -> new LoginMember(
+                ((Number) claims.get("sub")).longValue(),
+                (String) claims.get("email"),
+                (String) claims.get("nickname"),
+                Role.valueOf((String) claims.get("role")),
+                MemberStatus.valueOf((String) claims.get("status")),
+                ((Number) claims.get("iat")).longValue()));
+    }
+
+    /**
+     * refresh 토큰의 서명, 만료 시각을 확인하고 회원 ID와 jti를 반환
+     * 폐기 여부는 확인하지 않음 (AuthService에서 RefreshToken 행으로 확인)
+     */
+    public Optional<RefreshClaims> verifyRefresh(String token) {
+        return claims(token, REFRESH)
+                .filter(claims -> claims.get("jti") instanceof Number)
+                .map(claims -> new RefreshClaims(
+                        ((Number) claims.get("sub")).longValue(),
+                        ((Number) claims.get("jti")).longValue()));
+    }
+
+    // 토큰 인증 모드 여부 (false면 세션 인증)
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getAccessTtlMs() {
+        return accessTtlMs;
+    }
+
+    public long getRefreshTtlMs() {
+        return refreshTtlMs;
+    }
+
+    // 서명, 종류, 만료 시각을 확인한 클레임 (필수 클레임이 없으면 empty)
+    private Optional<Map<?, ?>> claims(String token, String type) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payload = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return Optional.empty();
+            }
+
+            Map<?, ?> claims = objectMapper.readValue(payload, Map.class);
+            long expiresAt = ((Number) claims.get("exp")).longValue();
+            if (!type.equals(claims.get("typ")) || expiresAt <= System.currentTimeMillis()) {
+                return Optional.empty();
+            }
+            return Optional.of(claims);
+        } catch (IllegalArgumentException | ClassCastException | NullPointerException | IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private IssuedToken issue(LoginMember member, String type, Long tokenId, long expiresAt) {
+        long now = System.currentTimeMillis();
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", member.id());
+        claims.put("typ", type);
+        claims.put("email", member.email());
+        claims.put("nickname", member.nickname());
+        claims.put("role", member.role().name());
+        claims.put("status", member.status().name());
+        claims.put("iat", now);
+        claims.put("exp", expiresAt);
+        if (tokenId != null) {
+            claims.put("jti", tokenId);
+        }
+
+        try {
+            byte[] payload = objectMapper.writeValueAsBytes(claims);
+            String token = ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+            return new IssuedToken(token, expiresAt);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("토큰을 만들지 못했습니다.", e);
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        return mac.get().doFinal(payload);
+    }
+
+    // 토큰 인증 모드에서 비밀 키가 없으면 시작하지 않음
+    // (임시 키로는 재시작하거나 인스턴스가 여러 개일 때 토큰이 호환되지 않음, 세션 모드에서는 토큰을 쓰지 않으므로 임시 키)
+    private static byte[] secretBytes(String secret, boolean enabled) {
+        if (secret == null || secret.isBlank()) {
+            if (enabled) {
+                throw new IllegalStateException("토큰 인증 모드에서는 knowledgeout.auth.token.secret을 설정해야 합니다.");
+            }
+            byte[] random = new byte[32];
+            new SecureRandom().nextBytes(random);
+            return random;
+        }
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < 32) {
+            throw new IllegalStateException("knowledgeout.auth.token.secret은 32바이트 이상이어야 합니다.");
+        }
+        return bytes;
+    }
+}
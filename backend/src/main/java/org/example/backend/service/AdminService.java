@@ -2,16 +2,20 @@ package org.example.backend.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.backend.dto.response.AdminDashboardDto;
+import org.example.backend.dto.response.DailyCountDto;
 import org.example.backend.dto.response.ItemCountDto;
-import org.example.backend.repository.CategoryRepository;
-import org.example.backend.repository.QuestionRepository;
-import org.example.backend.repository.TagRepository;
+import org.example.backend.repository.DailyCategoryStatRepository;
+import org.example.backend.repository.DailyTagStatRepository;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime; // [추가] 날짜 계산을 위해 필요
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -21,43 +25,79 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AdminService {
 
-    private final QuestionRepository questionRepository;
-    private final TagRepository tagRepository;
-    private final CategoryRepository categoryRepository;
+    // 시계열 조회 최대 기간 (일)
+    private static final int MAX_SERIES_DAYS = 366;
+
+    private final DailyTagStatRepository dailyTagStatRepository;
+    private final DailyCategoryStatRepository dailyCategoryStatRepository;
+    private final DailyStatsService dailyStatsService;
 
     // [수정] int days 파라미터 추가
     public AdminDashboardDto getDashboardData(int days) {
+        // 조회 기간 계산: 최근 days일 (현재 시간 - days가 속한 날짜부터 오늘까지의 일자 버킷)
+        LocalDate today = LocalDate.now();
+        return getDashboardData(today.minusDays(Math.max(days, 0)), today);
+    }
+
+    // 임의 기간(from ~ to, 양 끝 포함) 대시보드: 일자 버킷 합계만 읽으므로 질문 테이블 크기와 무관
+    public AdminDashboardDto getDashboardData(LocalDate from, LocalDate to) {
+        validateRange(from, to);
         Pageable limit5 = PageRequest.of(0, 5);
         Pageable limit10 = PageRequest.of(0, 10);
 
-        // [추가] 조회 기간 계산 (현재 시간 - 일수)
-        LocalDateTime startDate = LocalDateTime.now().minusDays(days);
-
         // 1. 인기 태그 Top 5 (기간 적용)
-        // 리포지토리에 startDate를 전달
-        List<ItemCountDto> topTags = questionRepository.findTopTags(startDate, limit5);
+        List<ItemCountDto> topTags = dailyTagStatRepository.sumByTag(from, to, limit5);
 
         // 2. 인기 카테고리 Top 5 (기간 적용)
-        // 리포지토리에 startDate를 전달
-        List<ItemCountDto> topCategories = questionRepository.findTopCategories(startDate, limit5);
-
+        List<ItemCountDto> topCategories = dailyCategoryStatRepository.sumByCategory(from, to, limit5);
 
         // 3. 카테고리별 질문 수 (전체 누적)
-        List<Object[]> categoryRawData = questionRepository.countQuestionsByCategoryRaw();
-        Map<String, Long> categoryCount = categoryRawData.stream()
-                .collect(Collectors.toMap(
-                        row -> (String) row[0],
-                        row -> (Long) row[1]
-                ));
+        Map<String, Long> categoryCount = dailyCategoryStatRepository.sumAllByCategory(Pageable.unpaged()).stream()
+                .collect(Collectors.toMap(ItemCountDto::getName, ItemCountDto::getCount));
 
         // 4. 태그별 질문 수 Top 10 (전체 누적)
-        List<Object[]> tagRawData = questionRepository.countQuestionsByTagRaw(limit10);
-        Map<String, Long> tagCount = tagRawData.stream()
-                .collect(Collectors.toMap(
-                        row -> (String) row[0],
-                        row -> (Long) row[1]
-                ));
+        Map<String, Long> tagCount = dailyTagStatRepository.sumAllByTag(limit10).stream()
+                .collect(Collectors.toMap(ItemCountDto::getName, ItemCountDto::getCount));
 
         return new AdminDashboardDto(topTags, topCategories, categoryCount, tagCount);
     }
-}
\ No newline at end of file
+
+    // 태그/카테고리 하나의 일자별 질문 수 (값이 없는 날은 0으로 채움)
+    public List<DailyCountDto> getDailySeries(String type, String name, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_SERIES_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_SERIES_DAYS + "일입니다.");
+        }
+
+        List<Object[]> rows = switch (type) {
+            case "tag" -> dailyTagStatRepository.findSeriesRaw(name, from, to);
+            case "category" -> dailyCategoryStatRepository.findSeriesRaw(name, from, to);
+            default -> throw new IllegalArgumentException("지원하지 않는 통계 유형입니다.");
+        };
+        Map<LocalDate, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((LocalDate) row[0], (Long) row[1]);
+        }
+
+        List<DailyCountDto> series = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            series.add(new DailyCountDto(date, counts.getOrDefault(date, 0L)));
+        }
+        return series;
+    }
+
+    // 일자별 통계 재계산 (롤업 도입 이전 데이터 적재, 수동 보정)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildDailyStats(LocalDate from, LocalDate to) {
+        dailyStatsService.rebuild(from, to);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("조회 기간을 입력해주세요.");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+    }
+}
@@ -8,10 +8,16 @@ import org.example.backend.domain.question.Question;
 import org.example.backend.domain.tag.Tag;
 import org.example.backend.dto.request.AnswerRequestDto;
 import org.example.backend.dto.response.AnswerResponseDto;
+import org.example.backend.dto.response.CursorSliceDto;
+import org.example.backend.event.AnswerChangedEvent;
+import org.example.backend.event.ChangeType;
 import org.example.backend.repository.AnswerRepository;
 import org.example.backend.repository.MemberRepository;
 import org.example.backend.repository.QuestionRepository;
 import org.example.backend.service.TagService;
+import org.example.backend.support.KeysetCursor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,36 +32,74 @@ public class AnswerService {
     private final QuestionRepository questionRepository;
     private final MemberRepository memberRepository;
     private final TagService tagService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final QuestionVersionRegistry questionVersionRegistry;
+
+    private static final int MAX_SLICE_SIZE = 100;
 
     @Transactional
-    public Long addAnswer(String userEmail, Long questionId, AnswerRequestDto request) {
-        Member member = memberRepository.findByEmail(userEmail).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
-        Question question = questionRepository.findById(questionId).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 질문입니다."));
+    public Long addAnswer(Long memberId, Long questionId, AnswerRequestDto request) {
+        Member member = memberRepository.getReferenceById(memberId);
+        // 동시에 첫 답변이 등록되어도 답변 전 상태(answeredBefore)가 한 번만 false가 되도록 질문 행을 잠그고 답변 수 확인
+        Question question = questionRepository.findByIdForUpdate(questionId).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 질문입니다."));
         Answer answer = new Answer(request.getContent(), question, member);
+        long activeAnswers = answerRepository.countByQuestionIdAndStatusFalse(questionId);
 
         // 태그 처리
         if (request.getTagNames() != null) {
-            for (String tagName : request.getTagNames()) {
-                Tag tag = tagService.findOrCreateTag(tagName);
+            // 태그 이름을 한 번에 조회/등록
+            for (Tag tag : tagService.resolveTags(request.getTagNames())) {
                 AnswerTag answerTag = new AnswerTag();
                 answerTag.setTag(tag);
                 answer.addAnswerTag(answerTag);
             }
         }
 
-        return answerRepository.save(answer).getId();
+        Long answerId = answerRepository.save(answer).getId();
+        publishAnswerChanged(answer, ChangeType.CREATED, activeAnswers > 0, true);
+        return answerId;
     }
 
     public List<AnswerResponseDto> getAnswersByQuestionId(Long questionId) {
-        List<Answer> answers = answerRepository.findByQuestionIdAndStatusFalseOrderByCreatedAtAsc(questionId);
+        List<Answer> answers = answerRepository.findActiveWithMember(questionId);
         return answers.stream()
                 .map(AnswerResponseDto::fromEntity)
                 .collect(Collectors.toList());
     }
 
+    // 답변 커서 기반 조회 (작성일시 오름차순, COUNT 쿼리 없음)
+    // 답변 + 작성자 1회, 답변 태그 1회, 태그 1회로 페이지 크기와 관계없이 쿼리 수가 일정
+    public CursorSliceDto<AnswerResponseDto> getAnswerSlice(Long questionId, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest page = PageRequest.ofSize(limit + 1);
+        List<Answer> rows = after == null
+                ? answerRepository.findActiveWithMember(questionId, page)
+                : answerRepository.findActiveWithMemberAfter(questionId, after.createdAt(), after.id(), page);
+
+        boolean hasNext = rows.size() > limit;
+        List<Answer> answers = hasNext ? rows.subList(0, limit) : rows;
+        List<AnswerResponseDto> content = answers.stream()
+                .map(AnswerResponseDto::fromEntity)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Answer last = answers.get(answers.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorSliceDto<>(content, nextCursor, hasNext, content.size());
+    }
+
+    // 질문에 달린 삭제되지 않은 답변 수
+    public long countAnswers(Long questionId) {
+        return answerRepository.countByQuestionIdAndStatusFalse(questionId);
+    }
+
     @Transactional
-    public void updateAnswer(String userEmail, Long questionId, Long answerId, AnswerRequestDto request) {
-        Member member = memberRepository.findByEmail(userEmail).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+    public void updateAnswer(Long memberId, Long questionId, Long answerId, AnswerRequestDto request) {
         Answer answer = answerRepository.findByIdAndStatusFalse(answerId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 답변입니다."));
         
@@ -65,7 +109,7 @@ public class AnswerService {
         }
         
         // 작성자 검증
-        if (!answer.getMember().getId().equals(member.getId())) {
+        if (!answer.getMember().getId().equals(memberId)) {
             throw new IllegalArgumentException("답변을 수정할 권한이 없습니다.");
         }
         
@@ -74,18 +118,22 @@ public class AnswerService {
         // 태그 업데이트
         if (request.getTagNames() != null) {
             answer.getAnswerTags().clear(); // 기존 연관관계 제거
-            for (String tagName : request.getTagNames()) {
-                Tag tag = tagService.findOrCreateTag(tagName);
+            for (Tag tag : tagService.resolveTags(request.getTagNames())) {
                 AnswerTag answerTag = new AnswerTag();
                 answerTag.setTag(tag);
                 answer.addAnswerTag(answerTag);
             }
         }
+
+        publishAnswerChanged(answer, ChangeType.UPDATED, true, true);
     }
 
     @Transactional
-    public void deleteAnswer(String userEmail, Long questionId, Long answerId) {
-        Member member = memberRepository.findByEmail(userEmail).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+    public void deleteAnswer(Long memberId, boolean isAdmin, Long questionId, Long answerId) {
+        // 동시 삭제 시 마지막 답변 삭제가 한 번만 집계되도록 질문 행부터 잠금
+        // (MySQL은 트랜잭션의 첫 일반 조회 시점 스냅샷을 읽으므로 답변 수 확인보다 먼저 잠가야 최신 값을 셈)
+        questionRepository.findByIdForUpdate(questionId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 질문입니다."));
         Answer answer = answerRepository.findByIdAndStatusFalse(answerId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 답변입니다."));
         
@@ -94,9 +142,7 @@ public class AnswerService {
             throw new IllegalArgumentException("질문과 답변이 일치하지 않습니다.");
         }
         
-        // 관리자 권한 확인
-        boolean isAdmin = member.getRole() == org.example.backend.domain.member.Role.ROLE_ADMIN;
-        boolean isAuthor = answer.getMember().getId().equals(member.getId());
+        boolean isAuthor = answer.getMember().getId().equals(memberId);
         
         // 관리자가 아니고 작성자도 아닌 경우 삭제 권한 없음
         if (!isAdmin && !isAuthor) {
@@ -104,6 +150,16 @@ public class AnswerService {
         }
         
         // soft delete 수행
+        long activeAnswers = answerRepository.countByQuestionIdAndStatusFalse(questionId);
         answer.delete();
+        publishAnswerChanged(answer, ChangeType.DELETED, true, activeAnswers > 1);
+    }
+
+    private void publishAnswerChanged(Answer answer, ChangeType type, boolean answeredBefore, boolean answeredAfter) {
+        Question question = answer.getQuestion();
+        questionVersionRegistry.bump(question.getId());
+        Long categoryId = question.getCategory() != null ? question.getCategory().getId() : null;
+        eventPublisher.publishEvent(new AnswerChangedEvent(
+                answer.getId(), question.getId(), type, categoryId, question.isStatus(), answeredBefore, answeredAfter));
     }
 }
@@ -2,21 +2,30 @@ package org.example.backend.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.backend.domain.member.Member;
+import org.example.backend.domain.member.RefreshToken;
 import org.example.backend.dto.request.MemberRequestDto;
+import org.example.backend.dto.response.TokenResponseDto;
 import org.example.backend.exception.BusinessException;
 import org.example.backend.exception.ErrorCode;
 import org.example.backend.repository.MemberRepository;
+import org.example.backend.repository.RefreshTokenRepository;
+import org.example.backend.security.LoginMember;
+import org.example.backend.security.TokenService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
     private final MemberRepository memberRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenService tokenService;
 
     @Transactional
     public Long signup(MemberRequestDto request) {
@@ -48,4 +57,37 @@ public class AuthService {
 
         return member.getId();
     }
-}
\ No newline at end of file
+
+    // 로그인 성공 시 access/refresh 토큰 발급 (토큰 인증 모드, refresh 토큰은 DB에 저장해 두고 jti로 확인)
+    @Transactional
+    public TokenResponseDto issueTokens(LoginMember member) {
+        long now = System.currentTimeMillis();
+        refreshTokenRepository.deleteExpired(member.id(), now);
+        RefreshToken stored = refreshTokenRepository.save(new RefreshToken(member.id(), now + tokenService.getRefreshTtlMs()));
+
+        TokenService.IssuedToken access = tokenService.issueAccessToken(member);
+        TokenService.IssuedToken refresh = tokenService.issueRefreshToken(member, stored.getId(), stored.getExpiresAt());
+        return new TokenResponseDto(access.token(), refresh.token(), tokenService.getAccessTtlMs() / 1000);
+    }
+
+    /**
+     * refresh 토큰으로 재발급 (사용한 refresh 토큰은 폐기)
+     * 로그아웃/비밀번호 변경/탈퇴로 폐기되었거나 이미 재발급에 사용한 토큰은 거부하고,
+     * 회원 정보를 DB에서 다시 읽어 탈퇴한 회원은 거부하고 수정된 정보를 반영합니다.
+     */
+    @Transactional
+    public Optional<TokenResponseDto> refreshTokens(String refreshToken) {
+        return tokenService.verifyRefresh(refreshToken)
+                .filter(claims -> refreshTokenRepository.deleteByIdAndMemberId(claims.tokenId(), claims.memberId()) == 1)
+                .flatMap(claims -> memberRepository.findById(claims.memberId()))
+                .filter(Member::isActive)
+                .map(member -> issueTokens(LoginMember.from(member)));
+    }
+
+    // 로그아웃: refresh 토큰 폐기 (이미 폐기되었거나 잘못된 토큰이면 무시)
+    @Transactional
+    public void logout(String refreshToken) {
+        tokenService.verifyRefresh(refreshToken)
+                .ifPresent(claims -> refreshTokenRepository.deleteByIdAndMemberId(claims.tokenId(), claims.memberId()));
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.category.Category;
+import org.example.backend.dto.response.CategoryResponseDto;
+import org.example.backend.repository.CategoryRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카테고리 목록 스냅샷 (불변)
+ * 카테고리는 거의 바뀌지 않으므로 ID <-> 이름 맵과 목록 응답 JSON, ETag를 미리 만들어 두고
+ * 주기적으로(또는 refresh 호출 시) 다시 읽어 내용이 바뀐 경우에만 통째로 교체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryCache {
+
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+    private final QuestionVersionRegistry questionVersionRegistry;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public record Snapshot(
+            Map<Long, String> namesById,
+            SortedMap<String, Long> idsByName, // tags.name과 같이 대소문자 구분 없이 조회
+            List<CategoryResponseDto> categories,
+            byte[] json,
+            String etag
+    ) {
+    }
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : refresh();
+    }
+
+    public Optional<Long> findId(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(snapshot().idsByName().get(name));
+    }
+
+    public Optional<String> findName(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(snapshot().namesById().get(id));
+    }
+
+    public boolean exists(Long id) {
+        return id != null && snapshot().namesById().containsKey(id);
+    }
+
+    @Scheduled(initialDelayString = "${knowledgeout.category.refresh-ms:300000}",
+            fixedDelayString = "${knowledgeout.category.refresh-ms:300000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("카테고리 목록 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    // DB에서 다시 읽어 내용이 바뀌었으면 교체
+    // (DB 조회 중 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 ReentrantLock)
+    public Snapshot refresh() {
+        refreshLock.lock();
+        try {
+            List<Category> categories = categoryRepository.findAll();
+
+            Map<Long, String> namesById = new LinkedHashMap<>();
+            SortedMap<String, Long> idsByName = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (Category category : categories) {
+                namesById.put(category.getId(), category.getName());
+                idsByName.put(category.getName(), category.getId());
+            }
+            List<CategoryResponseDto> dtos = categories.stream().map(CategoryResponseDto::fromEntity).toList();
+
+            byte[] json = toJson(dtos);
+            String etag = etag(json);
+            Snapshot current = snapshot;
+            if (current != null && current.etag().equals(etag)) {
+                return current;
+            }
+
+            Snapshot loaded = new Snapshot(
+                    Collections.unmodifiableMap(namesById),
+                    Collections.unmodifiableSortedMap(idsByName),
+                    dtos,
+                    json,
+                    etag);
+            snapshot = loaded;
+            if (current != null) {
+                // 질문 응답에 포함된 카테고리 이름이 바뀐 카테고리의 질문 ETag 무효화
+                // (다른 서버도 변경을 발견하면 한 번 더 올리지만 불필요한 재조회가 한 번 생길 뿐)
+                questionVersionRegistry.bumpByCategories(renamed(current.namesById(), namesById));
+            }
+            log.info("카테고리 목록 갱신: {}개 (ETag {})", dtos.size(), etag);
+            return loaded;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // 이름이 바뀌었거나 삭제된 카테고리 ID
+    private static Set<Long> renamed(Map<Long, String> before, Map<Long, String> after) {
+        Set<Long> ids = new HashSet<>();
+        before.forEach((id, name) -> {
+            if (!name.equals(after.get(id))) {
+                ids.add(id);
+            }
+        });
+        return ids;
+    }
+
+    private byte[] toJson(List<CategoryResponseDto> categories) {
+        try {
+            return objectMapper.writeValueAsBytes(categories);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카테고리 목록을 직렬화하지 못했습니다.", e);
+        }
+    }
+
+    private static String etag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
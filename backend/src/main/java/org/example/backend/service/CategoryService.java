@@ -8,7 +8,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -16,11 +15,28 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
 
-    // 모든 카테고리 조회
+    // 모든 카테고리 조회 (메모리 스냅샷)
     public List<CategoryResponseDto> getAllCategories() {
-        return categoryRepository.findAll().stream()
-                .map(CategoryResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return categoryCache.snapshot().categories();
     }
-}
\ No newline at end of file
+
+    // 카테고리 목록 스냅샷 (미리 직렬화된 JSON, ETag 포함)
+    public CategoryCache.Snapshot getCategorySnapshot() {
+        return categoryCache.snapshot();
+    }
+
+    // 질문 등록/수정용 카테고리 참조 (스냅샷으로 존재 여부만 확인하고 SELECT 없이 프록시 반환)
+    public Category getCategoryReference(Long categoryId) {
+        if (!categoryCache.exists(categoryId)) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리입니다.");
+        }
+        return categoryRepository.getReferenceById(categoryId);
+    }
+
+    // 카테고리 변경 후 스냅샷 다시 읽기
+    public void refreshCategories() {
+        categoryCache.refresh();
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.question.Question;
+import org.example.backend.domain.question.QuestionTag;
+import org.example.backend.repository.DailyCategoryStatRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 일자 x 태그, 일자 x 카테고리 질문 수 롤업 관리
+ * - 질문 등록/수정 시 호출한 쪽의 트랜잭션 안에서 해당 일자 버킷을 증감 (INSERT ... ON DUPLICATE KEY UPDATE)
+ * - 롤업이 비어 있으면 시작 시 전체 기간을 채우고, 매일 최근 며칠을 원본 테이블 기준으로 다시 계산
+ * 기존 대시보드 쿼리와 같이 삭제(status=true)된 질문도 등록일 기준으로 집계합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyStatsService {
+
+    private static final String UPSERT_TAG_SQL =
+            "INSERT INTO daily_tag_stats (stat_date, tag_id, question_count) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE question_count = question_count + VALUES(question_count)";
+    private static final String UPSERT_CATEGORY_SQL =
+            "INSERT INTO daily_category_stats (stat_date, category_id, question_count) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE question_count = question_count + VALUES(question_count)";
+
+    private static final String DELETE_TAG_SQL = "DELETE FROM daily_tag_stats WHERE stat_date BETWEEN ? AND ?";
+    private static final String DELETE_CATEGORY_SQL = "DELETE FROM daily_category_stats WHERE stat_date BETWEEN ? AND ?";
+    private static final String REBUILD_TAG_SQL =
+            "INSERT INTO daily_tag_stats (stat_date, tag_id, question_count) " +
+            "SELECT DATE(q.created_at), qt.tag_id, COUNT(DISTINCT q.id) FROM questions q " +
+            "JOIN question_tags qt ON qt.question_id = q.id " +
+            "WHERE q.created_at >= ? AND q.created_at < ? " +
+            "GROUP BY DATE(q.created_at), qt.tag_id";
+    private static final String REBUILD_CATEGORY_SQL =
+            "INSERT INTO daily_category_stats (stat_date, category_id, question_count) " +
+            "SELECT DATE(q.created_at), q.category_id, COUNT(*) FROM questions q " +
+            "WHERE q.created_at >= ? AND q.created_at < ? AND q.category_id IS NOT NULL " +
+            "GROUP BY DATE(q.created_at), q.category_id";
+
+    // 한 트랜잭션에서 다시 계산하는 최대 일수 (잠금 시간 제한)
+    private static final int REBUILD_CHUNK_DAYS = 31;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DailyCategoryStatRepository dailyCategoryStatRepository;
+
+    @Value("${knowledgeout.stats.rebuild-days:2}")
+    private int rebuildDays;
+
+    // 질문 등록: 등록일 버킷에 카테고리/태그 +1
+    @Transactional
+    public void recordCreated(Question question) {
+        Long categoryId = question.getCategory() != null ? question.getCategory().getId() : null;
+        apply(statDate(question), null, categoryId, Set.of(), tagIds(question));
+    }
+
+    // 질문 수정: 카테고리/태그가 바뀐 만큼 등록일 버킷을 옮김
+    @Transactional
+    public void recordChanged(Question question, Long previousCategoryId, Set<Long> previousTagIds) {
+        Long categoryId = question.getCategory() != null ? question.getCategory().getId() : null;
+        apply(statDate(question), previousCategoryId, categoryId, previousTagIds, tagIds(question));
+    }
+
+    // 질문에 연결된 태그 ID (중복 제거)
+    public static Set<Long> tagIds(Question question) {
+        Set<Long> ids = new TreeSet<>();
+        for (QuestionTag questionTag : question.getQuestionTags()) {
+            if (questionTag.getTag() != null && questionTag.getTag().getId() != null) {
+                ids.add(questionTag.getTag().getId());
+            }
+        }
+        return ids;
+    }
+
+    private void apply(LocalDate day, Long previousCategoryId, Long categoryId, Set<Long> previousTagIds, Set<Long> tagIds) {
+        // 키 순서대로 갱신해서 동시 등록 간 잠금 순서를 맞춤
+        Map<Long, Long> categoryDeltas = new TreeMap<>();
+        if (previousCategoryId != null) {
+            categoryDeltas.merge(previousCategoryId, -1L, Long::sum);
+        }
+        if (categoryId != null) {
+            categoryDeltas.merge(categoryId, 1L, Long::sum);
+        }
+        Map<Long, Long> tagDeltas = new TreeMap<>();
+        previousTagIds.forEach(id -> tagDeltas.merge(id, -1L, Long::sum));
+        tagIds.forEach(id -> tagDeltas.merge(id, 1L, Long::sum));
+
+        upsert(UPSERT_CATEGORY_SQL, day, categoryDeltas);
+        upsert(UPSERT_TAG_SQL, day, tagDeltas);
+    }
+
+    private void upsert(String sql, LocalDate day, Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> {
+            if (delta != 0) {
+                args.add(new Object[]{day, id, delta});
+            }
+        });
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, args);
+        }
+    }
+
+    private static LocalDate statDate(Question question) {
+        return question.getCreatedAt() != null ? question.getCreatedAt().toLocalDate() : LocalDate.now();
+    }
+
+    /**
+     * 기간(from ~ to, 양 끝 포함)의 롤업을 원본 테이블 기준으로 다시 계산
+     * REBUILD_CHUNK_DAYS 단위로 나누어 각각 별도 트랜잭션에서 삭제 후 다시 채웁니다.
+     */
+    public void rebuild(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        for (LocalDate start = from; !start.isAfter(to); start = start.plusDays(REBUILD_CHUNK_DAYS)) {
+            LocalDate end = start.plusDays(REBUILD_CHUNK_DAYS - 1);
+            rebuildChunk(start, end.isAfter(to) ? to : end);
+        }
+        log.info("일자별 통계 재계산 완료: {} ~ {}", from, to);
+    }
+
+    private void rebuildChunk(LocalDate from, LocalDate to) {
+        Timestamp start = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_CATEGORY_SQL, from, to);
+            jdbcTemplate.update(DELETE_TAG_SQL, from, to);
+            jdbcTemplate.update(REBUILD_CATEGORY_SQL, start, end);
+            jdbcTemplate.update(REBUILD_TAG_SQL, start, end);
+        });
+    }
+
+    // 롤업 테이블이 비어 있으면 (최초 배포) 전체 기간 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (dailyCategoryStatRepository.count() > 0) {
+                return;
+            }
+            LocalDateTime first = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM questions", LocalDateTime.class);
+            if (first != null) {
+                rebuild(first.toLocalDate(), LocalDate.now());
+            }
+        } catch (RuntimeException e) {
+            log.warn("일자별 통계 초기 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    // 매일 최근 며칠을 다시 계산 (태그 삭제 등 롤업을 거치지 않은 변경 보정)
+    @Scheduled(cron = "${knowledgeout.stats.rebuild-cron:0 10 0 * * *}")
+    public void rebuildRecent() {
+        try {
+            LocalDate today = LocalDate.now();
+            rebuild(today.minusDays(rebuildDays), today);
+        } catch (RuntimeException e) {
+            log.warn("일자별 통계 재계산 실패: {}", e.getMessage());
+        }
+    }
+}
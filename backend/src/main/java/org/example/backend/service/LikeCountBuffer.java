@@ -0,0 +1,169 @@
+package org.example.backend.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.support.StripedCounterBuffer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 질문 추천 수(questions.like_count) write-behind 버퍼
+ * 추천 추가/취소마다 질문 행을 잠그지 않고 증감분을 메모리에 모아 두었다가 주기적으로 일괄 반영합니다.
+ * 같은 질문에 추천이 몰려도 StripedCounterBuffer의 LongAdder에 더하기만 하므로 요청끼리 경합하지 않습니다.
+ *
+ * 반영은 질문마다 증감분을 더하는 UPDATE 한 문장씩을 배치로 실행합니다 (추천 행을 다시 세지 않음).
+ * 메모리의 증감분은 반영 전까지 응답에 보여줄 추천 수(like_count + 증감분)에도 사용합니다.
+ *
+ * like_count는 question_likes 행 수와 어긋날 수 있으므로 (반영 전 종료, 다른 경로의 삭제 등)
+ * 시작 시와 주기적으로 실제 행 수 기준으로 다시 맞춥니다. 컬럼이 새로 추가된 경우의 초기값 채우기도 이 작업이 담당합니다.
+ */
+@Slf4j
+@Component
+public class LikeCountBuffer {
+
+    private static final String UPDATE_SQL = "UPDATE questions SET like_count = like_count + ? WHERE id = ?";
+
+    // 보정용 (실행 시점의 실제 행 수에서 이 서버의 반영 대기 증감분을 뺀 값으로 맞춤)
+    private static final String RECOUNT_SQL =
+            "UPDATE questions SET like_count = (SELECT COUNT(*) FROM question_likes l WHERE l.question_id = ?) - ? WHERE id = ?";
+
+    // 질문 ID 순서로 나눠서 DB 값과 실제 추천 행 수를 비교
+    private static final String RECONCILE_SELECT_SQL =
+            "SELECT q.id, q.like_count, (SELECT COUNT(*) FROM question_likes l WHERE l.question_id = q.id) " +
+            "FROM questions q WHERE q.id > ? ORDER BY q.id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StripedCounterBuffer buffer = new StripedCounterBuffer();
+    // 반영 시작/종료마다 1씩 증가 (홀수면 반영 중)
+    private final AtomicLong flushSequence = new AtomicLong();
+    // 반영과 보정이 겹치지 않도록 (보정이 읽은 반영 대기 증감분이 그 사이에 더해지면 두 번 빠짐)
+    private final Object writeLock = new Object();
+    private final int reconcileBatchSize;
+
+    public LikeCountBuffer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                           @Value("${knowledgeout.like-count.reconcile-batch-size:500}") int reconcileBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.reconcileBatchSize = reconcileBatchSize;
+
+        // 아직 DB에 반영되지 않은 추천 증감분 합계
+        Gauge.builder("knowledgeout.like_count.pending", buffer, StripedCounterBuffer::pendingTotal)
+                .description("Buffered question like deltas not yet flushed to the database")
+                .register(Metrics.globalRegistry);
+    }
+
+    // 추천 추가(+1)/취소(-1) 기록 (추천 행이 커밋된 뒤에 호출)
+    public void add(Long questionId, long delta) {
+        buffer.add(questionId, delta);
+    }
+
+    // DB 값에 아직 반영되지 않은 증감분을 더한 값
+    public long currentLikeCount(Long questionId, long persistedLikeCount) {
+        return Math.max(0L, persistedLikeCount + buffer.pending(questionId));
+    }
+
+    // 반영 대기 중인 증감분이 있는 질문 수
+    public int getPendingQuestionCount() {
+        return buffer.size();
+    }
+
+    // DB 값과 버퍼 값을 따로 읽는 쪽은 읽기 전후 값이 같고 짝수인지 확인
+    // (그 사이에 반영이 있었으면 반영분이 두 번 더해지거나 빠졌을 수 있음)
+    public long flushSequence() {
+        return flushSequence.get();
+    }
+
+    @Scheduled(fixedDelayString = "${knowledgeout.like-count.flush-interval-ms:1000}")
+    public void flush() {
+        flushSequence.incrementAndGet();
+        try {
+            buffer.drain(this::write);
+        } catch (RuntimeException e) {
+            // 버퍼에 되돌려 두었으므로 다음 주기에 다시 시도
+            log.warn("추천 수 반영 실패 (pending={}): {}", buffer.pendingTotal(), e.getMessage());
+        } finally {
+            flushSequence.incrementAndGet();
+        }
+    }
+
+    // 애플리케이션 종료 시 남은 증감분 반영 (반영하지 못한 값은 다음 시작 시 보정으로 맞춰짐)
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (buffer.pendingTotal() != 0) {
+            log.warn("종료 시점에 반영하지 못한 추천 증감분: {}", buffer.pendingTotal());
+        }
+    }
+
+    /**
+     * like_count를 question_likes 행 수에 맞춥니다.
+     * 배치마다 행 수가 다른 질문만 골라 다시 세므로, 비교한 뒤 추천이 바뀌었어도 실행 시점의 행 수로 맞춰집니다.
+     * 이 서버에서 반영 대기 중인 증감분은 나중에 더해지므로 빼고 맞춥니다.
+     * 다른 인스턴스에서 반영 대기 중인 증감분은 알 수 없으므로, 그 값만큼 어긋난 추천 수는 다음 보정에서 맞춰집니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${knowledgeout.like-count.reconcile-ms:3600000}",
+            fixedDelayString = "${knowledgeout.like-count.reconcile-ms:3600000}")
+    public void reconcile() {
+        try {
+            long afterId = 0L;
+            int corrected = 0;
+            while (true) {
+                List<long[]> rows = jdbcTemplate.query(RECONCILE_SELECT_SQL,
+                        (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)},
+                        afterId, reconcileBatchSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                corrected += correct(rows);
+                afterId = rows.get(rows.size() - 1)[0];
+            }
+            if (corrected > 0) {
+                log.info("추천 수 보정: 질문 {}건", corrected);
+            }
+        } catch (RuntimeException e) {
+            log.warn("추천 수 보정 실패: {}", e.getMessage());
+        }
+    }
+
+    // rows: (질문 ID, like_count, 실제 행 수)
+    private int correct(List<long[]> rows) {
+        synchronized (writeLock) {
+            List<Object[]> args = new ArrayList<>();
+            for (long[] row : rows) {
+                long pending = buffer.pending(row[0]);
+                if (row[1] + pending != row[2]) {
+                    args.add(new Object[]{row[0], pending, row[0]});
+                }
+            }
+            if (!args.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(RECOUNT_SQL, args));
+            }
+            return args.size();
+        }
+    }
+
+    // 증감분 일괄 반영 (질문 ID 오름차순)
+    private void write(Map<Long, Long> batch) {
+        List<Object[]> args = new ArrayList<>(batch.size());
+        batch.forEach((questionId, delta) -> args.add(new Object[]{delta, questionId}));
+
+        synchronized (writeLock) {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, args));
+        }
+        log.debug("추천 수 {}건 반영", batch.size());
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.repository.QuestionLikeRepository;
+import org.example.backend.repository.QuestionRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 질문 추천 추가/취소와 추천 수 조회
+ * - 추천 추가/취소는 미리 조회하지 않고 INSERT / DELETE 한 문장으로 처리 (같은 요청을 반복해도 결과가 같음)
+ * - 추천 수는 COUNT 없이 questions.like_count + 아직 반영되지 않은 증감분(LikeCountBuffer)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LikeCountService {
+
+    // 반영과 겹쳐 DB 값과 버퍼 값이 어긋났을 때 다시 읽는 횟수
+    private static final int MAX_READ_ATTEMPTS = 3;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO question_likes (member_id, question_id, created_at) VALUES (?, ?, NOW(6))";
+
+    private final QuestionLikeRepository questionLikeRepository;
+    private final QuestionRepository questionRepository;
+    private final LikeCountBuffer likeCountBuffer;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 추천 설정 (liked: true면 추가, false면 취소) 후 현재 추천 수
+    // 추천 행 변경은 저장소 메서드에서 바로 커밋하고, 커밋된 변경만 버퍼에 더함
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long setLike(Long questionId, Long memberId, boolean liked) {
+        int changed = liked
+                ? insertIfAbsent(questionId, memberId)
+                : questionLikeRepository.deleteByQuestionIdAndMemberId(questionId, memberId);
+        if (changed > 0) {
+            applied(questionId, liked ? 1L : -1L);
+        }
+        return getLikeCount(questionId);
+    }
+
+    // 추천 토글 (기존 POST API 호환): 취소를 먼저 시도하고 취소할 추천이 없으면 추가
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long toggleLike(Long questionId, Long memberId) {
+        if (questionLikeRepository.deleteByQuestionIdAndMemberId(questionId, memberId) > 0) {
+            applied(questionId, -1L);
+        } else if (insertIfAbsent(questionId, memberId) > 0) {
+            applied(questionId, 1L);
+        }
+        return getLikeCount(questionId);
+    }
+
+    /**
+     * 질문 하나의 현재 추천 수 (존재하지 않는 질문이면 IllegalArgumentException)
+     * 호출한 쪽의 트랜잭션 스냅샷에 묶이지 않도록 트랜잭션 밖에서 읽고,
+     * 읽는 사이에 반영이 있었으면 다시 읽습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long getLikeCount(Long questionId) {
+        long likeCount = 0L;
+        for (int attempt = 0; attempt < MAX_READ_ATTEMPTS; attempt++) {
+            long sequence = likeCountBuffer.flushSequence();
+            long persisted = questionRepository.findLikeCountById(questionId)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 질문입니다."));
+            likeCount = likeCountBuffer.currentLikeCount(questionId, persisted);
+            if (sequence % 2 == 0 && sequence == likeCountBuffer.flushSequence()) {
+                break;
+            }
+        }
+        return likeCount;
+    }
+
+    // 이미 읽어 온 like_count에 아직 반영되지 않은 증감분을 더한 값 (목록 화면용)
+    public long currentLikeCount(Long questionId, long persistedLikeCount) {
+        return likeCountBuffer.currentLikeCount(questionId, persistedLikeCount);
+    }
+
+    // 추천 추가 (이미 추천했으면 0, 존재하지 않는 질문이면 IllegalArgumentException)
+    // INSERT IGNORE는 외래 키 오류까지 경고로 바꾸므로 unique 제약 위반만 골라서 무시
+    private int insertIfAbsent(Long questionId, Long memberId) {
+        try {
+            return jdbcTemplate.update(INSERT_SQL, memberId, questionId);
+        } catch (DuplicateKeyException e) {
+            return 0;
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("존재하지 않는 질문입니다.", e);
+        }
+    }
+
+    private void applied(Long questionId, long delta) {
+        likeCountBuffer.add(questionId, delta);
+    }
+}
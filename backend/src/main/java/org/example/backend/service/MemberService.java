@@ -2,16 +2,27 @@ package org.example.backend.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.backend.domain.member.Member;
+import org.example.backend.domain.question.Question;
 import org.example.backend.dto.request.UpdateMemberRequestDto;
+import org.example.backend.dto.response.CursorSliceDto;
+import org.example.backend.dto.response.LikedQuestionDto;
 import org.example.backend.dto.response.MemberResponseDto;
 import org.example.backend.dto.response.MyAnswerResponseDto;
 import org.example.backend.dto.response.QuestionResponseDto;
+import org.example.backend.dto.response.QuestionSummaryDto;
 import org.example.backend.exception.BusinessException;
 import org.example.backend.exception.ErrorCode;
 import org.example.backend.repository.AnswerRepository;
 import org.example.backend.repository.MemberRepository;
 import org.example.backend.repository.QuestionLikeRepository;
 import org.example.backend.repository.QuestionRepository;
+import org.example.backend.repository.QuestionSpecification;
+import org.example.backend.repository.RefreshTokenRepository;
+import org.example.backend.security.MemberSessionRegistry;
+import org.example.backend.support.KeysetCursor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,7 +37,16 @@ public class MemberService {
     private final QuestionRepository questionRepository;
     private final AnswerRepository answerRepository;
     private final QuestionLikeRepository questionLikeRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
+    private final LikeCountService likeCountService;
+    private final MemberSessionRegistry memberSessionRegistry;
+    private final QuestionVersionRegistry questionVersionRegistry;
+    private final ViewCountBuffer viewCountBuffer;
+
+    // 마이페이지 커서 기반 조회 정렬 기준 (작성일시, ID 내림차순)
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    private static final int MAX_SLICE_SIZE = 100;
 
     // 마이페이지 기본 정보
     @Transactional(readOnly = true)
@@ -55,6 +75,8 @@ public class MemberService {
             }
             // 닉네임 업데이트
             member.update(null, request.getNickname());
+            // 질문/답변 응답에 포함된 작성자 닉네임이 바뀌므로 작성한 질문과 답변한 질문의 ETag 무효화
+            questionVersionRegistry.bumpByMember(id);
         }
 
         // 비밀번호 변경 (새로운 비밀번호 입력한 경우)
@@ -70,36 +92,107 @@ public class MemberService {
             // 비밀번호 암호화
             String encodedPassword = passwordEncoder.encode(request.getPassword());
             member.updatePassword(encodedPassword);
+            // 다른 기기에 발급한 refresh 토큰 폐기
+            refreshTokenRepository.deleteByMemberId(id);
         }
 
+        // 로그인 중인 세션의 회원 정보(닉네임 등) 갱신
+        memberSessionRegistry.invalidate(id);
         return MemberResponseDto.fromEntity(member);
     }
 
     public List<QuestionResponseDto> getMyQuestions(Long memberId) {
-        return questionRepository.findByMemberIdAndStatusFalseOrderByCreatedAtDesc(memberId)
-                .stream()
-                .map(question -> {
-                    long likeCount = questionLikeRepository.countByQuestionId(question.getId());
-                    return QuestionResponseDto.fromEntity(question, likeCount);
-                })
+        List<Question> questions = questionRepository.findByMemberIdAndStatusFalseOrderByCreatedAtDesc(memberId);
+        return questions.stream()
+                .map(question -> QuestionResponseDto.fromEntity(question,
+                        likeCountService.currentLikeCount(question.getId(), question.getLikeCount())))
                 .toList();
     }
 
+    // 질문 제목까지 프로젝션 쿼리 한 번으로 조회 (답변마다 질문을 읽지 않음)
+    @Transactional(readOnly = true)
     public List<MyAnswerResponseDto> getMyAnswers(Long memberId) {
-        return answerRepository.findByMemberIdAndStatusFalseOrderByCreatedAtDesc(memberId)
-                .stream()
-                .map(MyAnswerResponseDto::fromEntity)
+        return answerRepository.findMyAnswers(memberId);
+    }
+
+    // 내가 작성한 질문 커서 기반 조회 (목록용 컬럼만 조회, 페이지당 쿼리 1회)
+    @Transactional(readOnly = true)
+    public CursorSliceDto<QuestionSummaryDto> getMyQuestionSlice(Long memberId, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+        Specification<Question> spec = QuestionSpecification.isNotDeleted()
+                .and(QuestionSpecification.equalMemberId(memberId))
+                .and(QuestionSpecification.beforeCursor(KeysetCursor.decode(cursor)));
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<QuestionSummaryDto> rows = questionRepository.findSummaries(spec, KEYSET_SORT, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<QuestionSummaryDto> content = (hasNext ? rows.subList(0, limit) : rows).stream()
+                .map(summary -> summary
+                        .withViewCount(viewCountBuffer.currentViewCount(summary.getId(), summary.getViewCount()))
+                        .withLikeCount(likeCountService.currentLikeCount(summary.getId(), summary.getLikeCount())))
                 .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            QuestionSummaryDto last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorSliceDto<>(content, nextCursor, hasNext, content.size());
+    }
+
+    // 내가 작성한 답변 커서 기반 조회 (프로젝션 쿼리, 페이지당 쿼리 1회)
+    @Transactional(readOnly = true)
+    public CursorSliceDto<MyAnswerResponseDto> getMyAnswerSlice(Long memberId, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+        KeysetCursor before = KeysetCursor.decode(cursor);
+
+        PageRequest page = PageRequest.ofSize(limit + 1);
+        List<MyAnswerResponseDto> rows = before == null
+                ? answerRepository.findMyAnswers(memberId, page)
+                : answerRepository.findMyAnswersBefore(memberId, before.createdAt(), before.id(), page);
+
+        boolean hasNext = rows.size() > limit;
+        List<MyAnswerResponseDto> content = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            MyAnswerResponseDto last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getAnswerId()).encode();
+        }
+        return new CursorSliceDto<>(content, nextCursor, hasNext, content.size());
     }
 
     public List<QuestionResponseDto> getMyLikedQuestions(Long memberId) {
-        return questionLikeRepository.findByMemberId(memberId)
-                .stream()
-                .map(like -> {
-                    long likeCount = questionLikeRepository.countByQuestionId(like.getQuestion().getId());
-                    return QuestionResponseDto.fromEntity(like.getQuestion(), likeCount);
+        List<Question> questions = questionLikeRepository.findLikedQuestions(memberId);
+        return questions.stream()
+                .map(question -> QuestionResponseDto.fromEntity(question,
+                        likeCountService.currentLikeCount(question.getId(), question.getLikeCount())))
+                .toList();
+    }
+
+    // 내가 추천한 질문 커서 기반 조회 (추천 일시 최신순, 삭제된 질문 제외, 페이지당 쿼리 1회)
+    @Transactional(readOnly = true)
+    public CursorSliceDto<LikedQuestionDto> getMyLikedQuestionSlice(Long memberId, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<LikedQuestionDto> rows = questionRepository.findLikedSummaries(memberId, KeysetCursor.decode(cursor), limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<LikedQuestionDto> content = (hasNext ? rows.subList(0, limit) : rows).stream()
+                .map(liked -> {
+                    QuestionSummaryDto question = liked.getQuestion();
+                    return liked.withQuestion(question
+                            .withViewCount(viewCountBuffer.currentViewCount(question.getId(), question.getViewCount()))
+                            .withLikeCount(likeCountService.currentLikeCount(question.getId(), question.getLikeCount())));
                 })
                 .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            LikedQuestionDto last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getLikedAt(), last.getLikeId()).encode();
+        }
+        return new CursorSliceDto<>(content, nextCursor, hasNext, content.size());
     }
 
     @Transactional
@@ -112,5 +205,9 @@ public class MemberService {
         }
 
         member.withdraw();
+        refreshTokenRepository.deleteByMemberId(id);
+        // 이 회원으로 로그인된 다른 세션도 종료
+        memberSessionRegistry.invalidate(id);
+        questionVersionRegistry.bumpByMember(id);
     }
 }
\ No newline at end of file
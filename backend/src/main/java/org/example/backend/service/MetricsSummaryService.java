@@ -0,0 +1,184 @@
+package org.example.backend.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.dto.response.MetricsSummaryDto;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관리자 메트릭 요약
+ * Prometheus 등으로 수집하지 않는 환경에서도 엔드포인트/저장소/Hibernate/커넥션 풀 상태를 한 번에 볼 수 있도록
+ * 등록된 미터와 Hibernate Statistics를 읽어서 엔드포인트, 저장소 메서드 단위로 합칩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MetricsSummaryService {
+
+    private final MeterRegistry meterRegistry;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public MetricsSummaryDto getSummary() {
+        return new MetricsSummaryDto(
+                endpoints(),
+                repositories(),
+                hibernate(),
+                connectionPool(),
+                gauges()
+        );
+    }
+
+    private List<MetricsSummaryDto.Endpoint> endpoints() {
+        // method + uri 단위로 status/outcome별 타이머를 합침
+        Map<String, EndpointAccumulator> byEndpoint = new TreeMap<>();
+        for (Timer timer : meterRegistry.find("http.server.requests").timers()) {
+            String method = timer.getId().getTag("method");
+            String uri = timer.getId().getTag("uri");
+            byEndpoint.computeIfAbsent(method + " " + uri, key -> new EndpointAccumulator(method, uri))
+                    .add(timer);
+        }
+
+        List<MetricsSummaryDto.Endpoint> result = new ArrayList<>(byEndpoint.size());
+        for (EndpointAccumulator acc : byEndpoint.values()) {
+            result.add(new MetricsSummaryDto.Endpoint(
+                    acc.method, acc.uri, acc.count, acc.clientErrors, acc.serverErrors,
+                    acc.count == 0 ? 0 : acc.totalMs / acc.count, acc.maxMs,
+                    percentile(acc.success, 0.95), percentile(acc.success, 0.99),
+                    requestMean("knowledgeout.http.request.statements", acc.method, acc.uri),
+                    requestMean("knowledgeout.http.request.entities_loaded", acc.method, acc.uri)
+            ));
+        }
+        result.sort(Comparator.comparingLong(MetricsSummaryDto.Endpoint::getCount).reversed());
+        return result;
+    }
+
+    private List<MetricsSummaryDto.Repository> repositories() {
+        // 성공/실패(state) 타이머를 저장소 + 메서드 단위로 합침
+        Map<String, double[]> byMethod = new TreeMap<>();   // count, totalMs, maxMs
+        for (Timer timer : meterRegistry.find("spring.data.repository.invocations").timers()) {
+            String key = simpleName(timer.getId().getTag("repository")) + "#" + timer.getId().getTag("method");
+            double[] acc = byMethod.computeIfAbsent(key, k -> new double[3]);
+            acc[0] += timer.count();
+            acc[1] += timer.totalTime(TimeUnit.MILLISECONDS);
+            acc[2] = Math.max(acc[2], timer.max(TimeUnit.MILLISECONDS));
+        }
+
+        List<MetricsSummaryDto.Repository> result = new ArrayList<>(byMethod.size());
+        byMethod.forEach((key, acc) -> {
+            int separator = key.indexOf('#');
+            long count = (long) acc[0];
+            result.add(new MetricsSummaryDto.Repository(
+                    key.substring(0, separator), key.substring(separator + 1),
+                    count, acc[1], count == 0 ? 0 : acc[1] / count, acc[2]));
+        });
+        result.sort(Comparator.comparingDouble(MetricsSummaryDto.Repository::getTotalMs).reversed());
+        return result;
+    }
+
+    private MetricsSummaryDto.Hibernate hibernate() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return new MetricsSummaryDto.Hibernate(
+                statistics.isStatisticsEnabled(),
+                statistics.getPrepareStatementCount(),
+                statistics.getEntityLoadCount(),
+                statistics.getEntityFetchCount(),
+                statistics.getQueryExecutionCount(),
+                statistics.getQueryExecutionMaxTime(),
+                statistics.getQueryExecutionMaxTimeQueryString()
+        );
+    }
+
+    private MetricsSummaryDto.ConnectionPool connectionPool() {
+        return new MetricsSummaryDto.ConnectionPool(
+                gaugeValue("hikaricp.connections.active"),
+                gaugeValue("hikaricp.connections.idle"),
+                gaugeValue("hikaricp.connections.pending"),
+                gaugeValue("hikaricp.connections.max"),
+                gaugeValue("knowledgeout.jdbc.pool.saturation")
+        );
+    }
+
+    private Map<String, Double> gauges() {
+        Map<String, Double> result = new TreeMap<>();
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (meter instanceof Gauge gauge && meter.getId().getName().startsWith("knowledgeout.")) {
+                result.put(meter.getId().getName(), gauge.value());
+            }
+        }
+        return result;
+    }
+
+    private Double requestMean(String name, String method, String uri) {
+        DistributionSummary summary = meterRegistry.find(name).tags("method", method, "uri", uri).summary();
+        return summary == null ? null : summary.mean();
+    }
+
+    private Double gaugeValue(String name) {
+        Gauge gauge = meterRegistry.find(name).gauge();
+        return gauge == null ? null : gauge.value();
+    }
+
+    private static Double percentile(Timer timer, double percentile) {
+        if (timer == null) {
+            return null;
+        }
+        for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return null;
+    }
+
+    // 저장소 태그는 인터페이스 단순 이름 (버전에 따라 전체 이름일 수 있음)
+    private static String simpleName(String repository) {
+        return repository == null ? "" : repository.substring(repository.lastIndexOf('.') + 1);
+    }
+
+    private static class EndpointAccumulator {
+        private final String method;
+        private final String uri;
+        private long count;
+        private long clientErrors;
+        private long serverErrors;
+        private double totalMs;
+        private double maxMs;
+        // 백분위수는 타이머끼리 합칠 수 없으므로 요청 수가 가장 많은 성공 응답(200, 304 등) 타이머 기준
+        private Timer success;
+
+        private EndpointAccumulator(String method, String uri) {
+            this.method = method;
+            this.uri = uri;
+        }
+
+        private void add(Timer timer) {
+            long timerCount = timer.count();
+            count += timerCount;
+            totalMs += timer.totalTime(TimeUnit.MILLISECONDS);
+            maxMs = Math.max(maxMs, timer.max(TimeUnit.MILLISECONDS));
+
+            String outcome = timer.getId().getTag("outcome");
+            if ("CLIENT_ERROR".equals(outcome)) {
+                clientErrors += timerCount;
+            } else if ("SERVER_ERROR".equals(outcome)) {
+                serverErrors += timerCount;
+            } else if ("SUCCESS".equals(outcome) && (success == null || timerCount > success.count())) {
+                success = timer;
+            }
+        }
+    }
+}
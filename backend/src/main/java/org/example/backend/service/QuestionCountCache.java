@@ -0,0 +1,158 @@
+package org.example.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.dto.response.QuestionCountDto;
+import org.example.backend.event.AnswerChangedEvent;
+import org.example.backend.event.ChangeType;
+import org.example.backend.event.QuestionChangedEvent;
+import org.example.backend.repository.QuestionRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검색어가 없는 경우의 질문 수 요약 (카테고리별 전체/답변완료 수)
+ * - 시작 시 DB에서 한 번 집계한 뒤 질문/답변 변경 이벤트로 증감
+ * - 다른 인스턴스의 변경이나 누락된 이벤트는 주기적인 재집계로 보정
+ * - 재집계 중에 들어온 이벤트는 기존 집계에 반영하면서 따로 모아 두었다가, 새 집계로 바꿀 때 다시 적용
+ *   (바꾸기와 이벤트 반영은 같은 잠금으로 직렬화하므로 이벤트가 빠지거나 두 번 반영되지 않음.
+ *    단, 커밋 직후 리스너가 실행되기 전에 재집계 쿼리가 시작된 드문 경우는 다음 재집계에서 보정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionCountCache {
+
+    // 카테고리가 없는 질문의 키
+    private static final Long NO_CATEGORY = 0L;
+
+    private final QuestionRepository questionRepository;
+    private final CategoryCache categoryCache;
+
+    private volatile Map<Long, Counts> countsByCategory = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    // 이벤트 반영과 집계 교체를 직렬화 (읽기는 잠그지 않음)
+    private final Object lock = new Object();
+    // 재집계 중에 들어온 증감 (재집계 중이 아니면 null, lock으로 보호)
+    private List<Delta> pendingDuringReload;
+
+    private record Delta(Long categoryKey, long total, long answered) {
+    }
+
+    private static class Counts {
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong answered = new AtomicLong();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${knowledgeout.question-count.reconcile-ms:600000}",
+            fixedDelayString = "${knowledgeout.question-count.reconcile-ms:600000}")
+    public synchronized void reload() {
+        synchronized (lock) {
+            pendingDuringReload = new ArrayList<>();
+        }
+        try {
+            Map<Long, Counts> loaded = new ConcurrentHashMap<>();
+            for (Object[] row : questionRepository.countByCategoryAndAnswerStateRaw()) {
+                Counts counts = new Counts();
+                counts.total.set((Long) row[1]);
+                counts.answered.set(row[2] != null ? ((Number) row[2]).longValue() : 0L);
+                loaded.put(key((Long) row[0]), counts);
+            }
+            synchronized (lock) {
+                for (Delta delta : pendingDuringReload) {
+                    apply(loaded, delta);
+                }
+                countsByCategory = loaded;
+                pendingDuringReload = null;
+            }
+            ready = true;
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pendingDuringReload = null;
+            }
+            log.warn("질문 수 집계 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 카테고리 이름(null, 빈 문자열, "전체"면 전체)에 대한 질문 수
+     * 아직 집계 전이거나 모르는 카테고리면 empty (DB 조회로 대체)
+     */
+    public Optional<QuestionCountDto> get(String categoryName) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        if (categoryName == null || categoryName.isEmpty() || categoryName.equals("전체")) {
+            long total = 0;
+            long answered = 0;
+            for (Counts counts : countsByCategory.values()) {
+                total += counts.total.get();
+                answered += counts.answered.get();
+            }
+            return Optional.of(new QuestionCountDto(total, total - answered, answered));
+        }
+
+        Optional<Long> categoryId = categoryCache.findId(categoryName);
+        if (categoryId.isEmpty()) {
+            return Optional.empty();
+        }
+        Counts counts = countsByCategory.get(categoryId.get());
+        long total = counts != null ? counts.total.get() : 0L;
+        long answered = counts != null ? counts.answered.get() : 0L;
+        return Optional.of(new QuestionCountDto(total, total - answered, answered));
+    }
+
+    @TransactionalEventListener
+    public void onQuestionChanged(QuestionChangedEvent event) {
+        int answered = event.answered() ? 1 : 0;
+        if (event.type() == ChangeType.CREATED) {
+            add(event.categoryId(), 1, answered);
+        } else if (event.type() == ChangeType.DELETED) {
+            add(event.categoryId(), -1, -answered);
+        } else if (!Objects.equals(event.categoryId(), event.previousCategoryId())) {
+            add(event.previousCategoryId(), -1, -answered);
+            add(event.categoryId(), 1, answered);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onAnswerChanged(AnswerChangedEvent event) {
+        if (event.questionDeleted() || event.answeredBefore() == event.answeredAfter()) {
+            return;
+        }
+        add(event.categoryId(), 0, event.answeredAfter() ? 1 : -1);
+    }
+
+    private void add(Long categoryId, long totalDelta, long answeredDelta) {
+        Delta delta = new Delta(key(categoryId), totalDelta, answeredDelta);
+        synchronized (lock) {
+            apply(countsByCategory, delta);
+            if (pendingDuringReload != null) {
+                pendingDuringReload.add(delta);
+            }
+        }
+    }
+
+    private static void apply(Map<Long, Counts> target, Delta delta) {
+        Counts counts = target.computeIfAbsent(delta.categoryKey(), id -> new Counts());
+        counts.total.addAndGet(delta.total());
+        counts.answered.addAndGet(delta.answered());
+    }
+
+    private static Long key(Long categoryId) {
+        return categoryId != null ? categoryId : NO_CATEGORY;
+    }
+}
@@ -0,0 +1,280 @@
+package org.example.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import org.example.backend.domain.question.Question;
+import org.example.backend.dto.response.AnswerResponseDto;
+import org.example.backend.dto.response.CursorSliceDto;
+import org.example.backend.dto.response.QuestionResponseDto;
+import org.example.backend.repository.QuestionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 질문 상세 응답 캐시 ((질문 ID, 답변 첫 페이지 크기) -> gzip으로 압축된 JSON)
+ * 인기 질문은 조회마다 질문, 작성자, 카테고리, 태그, 답변을 읽고 직렬화하는 대신
+ * 질문 내용 버전(questions.content_version)별로 한 번 만든 바이트를 그대로 내려줍니다.
+ * 버전은 DB 값이므로 다른 서버에서 커밋한 변경도 다음 조회 때 버전 불일치로 다시 만들어집니다.
+ *
+ * 조회수와 추천 수는 자주 바뀌므로 압축해 둔 본문에 넣지 않고, 응답할 때마다 끝에 붙입니다.
+ * - 본문: 조회수/추천 수를 뺀 JSON에서 마지막 '}'를 제외한 부분을 SYNC_FLUSH로 압축 (바이트 경계에서 끝남)
+ * - 응답: gzip 헤더 + 압축된 본문 + 비압축(stored) 블록(,"viewCount":N,"likeCount":M}) + CRC32/길이
+ * 조회수와 추천 수는 버전과 함께 DB에서 읽은 값에 이 서버의 미반영분을 더해 사용합니다 (다른 서버의 반영분도 보임).
+ *
+ * 내용 버전이 바뀐 항목은 다음 조회 때 새로 만들고, 오래 조회되지 않은 항목은 LRU로 밀려납니다.
+ * 고유 조회자 수는 본문에 포함되므로 max-age-ms 주기로 다시 만들 때 갱신됩니다.
+ */
+@Component
+public class QuestionDetailCache {
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int[] CRC_TABLE = crcTable();
+
+    private final QuestionRepository questionRepository;
+    private final AnswerService answerService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long maxAgeMs;
+
+    private final Map<Key, Entry> entries;
+    private final Counter hits = Counter.builder("knowledgeout.question_detail_cache.requests")
+            .tag("result", "hit").register(Metrics.globalRegistry);
+    private final Counter misses = Counter.builder("knowledgeout.question_detail_cache.requests")
+            .tag("result", "miss").register(Metrics.globalRegistry);
+
+    public QuestionDetailCache(QuestionRepository questionRepository,
+                               AnswerService answerService,
+                               ViewCountBuffer viewCountBuffer,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${knowledgeout.question-cache.max-entries:1000}") int maxEntries,
+                               @Value("${knowledgeout.question-cache.max-age-ms:60000}") long maxAgeMs) {
+        this.questionRepository = questionRepository;
+        this.answerService = answerService;
+        this.viewCountBuffer = viewCountBuffer;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxAgeMs = maxAgeMs;
+
+        // 접근 순서 LinkedHashMap으로 가장 오래 조회되지 않은 항목부터 제거
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+
+        Gauge.builder("knowledgeout.question_detail_cache.size", entries, Map::size)
+                .description("Question detail responses held in memory")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("knowledgeout.question_detail_cache.bytes", entries,
+                        map -> {
+                            synchronized (map) {
+                                return map.values().stream().mapToLong(entry -> entry.body.length).sum();
+                            }
+                        })
+                .description("Compressed bytes of cached question detail responses")
+                .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * 캐시된 응답이 최신이면 DB 조회와 직렬화 없이 바이트를 만들어 반환합니다.
+     *
+     * @param version    QuestionVersionRegistry에서 읽은 질문의 현재 버전
+     * @param answerSize 0이면 답변 전체, 아니면 답변 첫 페이지 크기
+     * @param gzip       true면 gzip 압축된 바이트, false면 압축을 푼 JSON
+     */
+    public byte[] render(QuestionVersion version, int answerSize, boolean gzip) {
+        Long questionId = version.questionId();
+        Key key = new Key(questionId, answerSize);
+        Entry entry = entries.get(key);
+        if (entry != null && entry.isCurrent(version.contentVersion(), System.currentTimeMillis() - maxAgeMs)) {
+            hits.increment();
+        } else {
+            misses.increment();
+            entry = load(key, version);
+        }
+
+        int viewCount = viewCountBuffer.currentViewCount(questionId, version.viewCount());
+        byte[] suffix = (",\"viewCount\":" + viewCount + ",\"likeCount\":" + version.likeCount() + "}")
+                .getBytes(StandardCharsets.UTF_8);
+        return gzip ? entry.gzip(suffix) : entry.plain(suffix);
+    }
+
+    // 버전은 조회 전에 읽어 둠 (조회 중 커밋된 변경은 다음 조회에서 버전 불일치로 다시 만들어짐)
+    private Entry load(Key key, QuestionVersion version) {
+        Long questionId = key.questionId();
+
+        QuestionResponseDto dto = readOnlyTransaction.execute(status -> {
+            Question question = questionRepository.findById(questionId)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 질문입니다."));
+            // 조회수/추천 수는 본문에 넣지 않고 응답할 때 붙임
+            long likeCount = version.likeCount();
+
+            if (key.answerSize() == 0) {
+                List<AnswerResponseDto> answers = answerService.getAnswersByQuestionId(questionId);
+                return QuestionResponseDto.of(question, answers, answers.size(), null, likeCount, question.getViewCount());
+            }
+            // 첫 페이지가 전부면 COUNT 없이 개수 확정
+            CursorSliceDto<AnswerResponseDto> page = answerService.getAnswerSlice(questionId, null, key.answerSize());
+            long answerCount = page.isHasNext() ? answerService.countAnswers(questionId) : page.getSize();
+            return QuestionResponseDto.of(question, page.getContent(), (int) answerCount,
+                    page.getNextCursor(), likeCount, question.getViewCount());
+        });
+
+        // 마지막 '}'를 떼고 응답할 때 조회수/추천 수와 함께 붙임
+        byte[] json = toJson(dto);
+        byte[] prefix = Arrays.copyOf(json, json.length - 1);
+
+        CRC32 crc = new CRC32();
+        crc.update(prefix);
+        Entry entry = new Entry(version.contentVersion(), System.currentTimeMillis(), deflate(prefix), prefix.length,
+                crc.getValue());
+        entries.put(key, entry);
+        return entry;
+    }
+
+    private byte[] toJson(QuestionResponseDto dto) {
+        ObjectNode json = objectMapper.valueToTree(dto);
+        json.remove("viewCount");
+        json.remove("likeCount");
+        try {
+            return objectMapper.writeValueAsBytes(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("질문 응답을 직렬화하지 못했습니다.", e);
+        }
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 4));
+            byte[] buffer = new byte[8192];
+            int length;
+            do {
+                length = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                out.write(buffer, 0, length);
+            } while (length == buffer.length);
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static int[] crcTable() {
+        int[] table = new int[256];
+        for (int n = 0; n < 256; n++) {
+            int c = n;
+            for (int k = 0; k < 8; k++) {
+                c = (c & 1) != 0 ? 0xEDB88320 ^ (c >>> 1) : c >>> 1;
+            }
+            table[n] = c;
+        }
+        return table;
+    }
+
+    // CRC32 값에 이어서 계산 (java.util.zip.CRC32는 중간 값에서 이어갈 수 없음)
+    private static long crc32(long crc, byte[] bytes) {
+        int c = ~(int) crc;
+        for (byte b : bytes) {
+            c = CRC_TABLE[(c ^ b) & 0xff] ^ (c >>> 8);
+        }
+        return ~c & 0xffffffffL;
+    }
+
+    private record Key(Long questionId, int answerSize) {
+    }
+
+    private static final class Entry {
+
+        private final long contentVersion;
+        private final long createdAt;
+        private final byte[] body;
+        private final int bodyLength;
+        private final long bodyCrc;
+
+        private Entry(long contentVersion, long createdAt, byte[] body, int bodyLength, long bodyCrc) {
+            this.contentVersion = contentVersion;
+            this.createdAt = createdAt;
+            this.body = body;
+            this.bodyLength = bodyLength;
+            this.bodyCrc = bodyCrc;
+        }
+
+        private boolean isCurrent(long contentVersion, long notBefore) {
+            return this.contentVersion == contentVersion && createdAt >= notBefore;
+        }
+
+        private byte[] gzip(byte[] suffix) {
+            byte[] out = new byte[GZIP_HEADER.length + body.length + 5 + suffix.length + 8];
+            int pos = 0;
+            System.arraycopy(GZIP_HEADER, 0, out, pos, GZIP_HEADER.length);
+            pos += GZIP_HEADER.length;
+            System.arraycopy(body, 0, out, pos, body.length);
+            pos += body.length;
+
+            // 마지막 블록: BFINAL=1, 비압축, LEN / NLEN (리틀 엔디언)
+            out[pos++] = 0x01;
+            out[pos++] = (byte) suffix.length;
+            out[pos++] = (byte) (suffix.length >>> 8);
+            out[pos++] = (byte) ~suffix.length;
+            out[pos++] = (byte) (~suffix.length >>> 8);
+            System.arraycopy(suffix, 0, out, pos, suffix.length);
+            pos += suffix.length;
+
+            writeInt(out, pos, crc32(bodyCrc, suffix));
+            writeInt(out, pos + 4, bodyLength + suffix.length);
+            return out;
+        }
+
+        private byte[] plain(byte[] suffix) {
+            byte[] out = new byte[bodyLength + suffix.length];
+            Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(body);
+                int length = 0;
+                while (length < bodyLength) {
+                    int read = inflater.inflate(out, length, bodyLength - length);
+                    if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new IllegalStateException("캐시된 질문 응답이 손상되었습니다.");
+                    }
+                    length += read;
+                }
+            } catch (DataFormatException e) {
+                throw new IllegalStateException("캐시된 질문 응답이 손상되었습니다.", e);
+            } finally {
+                inflater.end();
+            }
+            System.arraycopy(suffix, 0, out, bodyLength, suffix.length);
+            return out;
+        }
+
+        private static void writeInt(byte[] out, int pos, long value) {
+            out[pos] = (byte) value;
+            out[pos + 1] = (byte) (value >>> 8);
+            out[pos + 2] = (byte) (value >>> 16);
+            out[pos + 3] = (byte) (value >>> 24);
+        }
+    }
+}
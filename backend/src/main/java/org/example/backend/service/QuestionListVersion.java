@@ -0,0 +1,24 @@
+package org.example.backend.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 질문 목록의 현재 버전 (목록 조건부 조회용 ETag)
+ * 목록 조건에 맞는 질문들을 집계한 값이라 어느 서버가 응답해도 같은 DB 값이면 같은 ETag가 나옵니다.
+ * @param count              조건에 맞는 질문 수 (등록/삭제)
+ * @param maxId              가장 큰 질문 ID (삭제와 등록이 겹쳐 수가 같은 경우)
+ * @param contentVersionSum  content_version 합계 (질문/답변/작성자/카테고리 변경)
+ * @param likeCountSum       DB에 반영된 like_count 합계
+ * @param lastModifiedAt     가장 최근 수정 일시
+ * 조회수는 포함하지 않습니다.
+ */
+public record QuestionListVersion(long count, Long maxId, long contentVersionSum, long likeCountSum,
+                                  LocalDateTime lastModifiedAt) {
+
+    public String etag() {
+        long modified = lastModifiedAt != null ? lastModifiedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+        return "W/\"l" + count + "-" + (maxId != null ? maxId : 0L) + "-" + contentVersionSum + "." + likeCountSum
+                + "-" + modified + "\"";
+    }
+}
@@ -1,25 +1,38 @@
 package org.example.backend.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.answer.Answer;
 import org.example.backend.domain.category.Category;
 import org.example.backend.domain.member.Member;
 import org.example.backend.domain.question.Question;
 import org.example.backend.domain.question.QuestionTag;
 import org.example.backend.domain.tag.Tag;
+import org.example.backend.event.QuestionChangedEvent;
 import org.example.backend.dto.request.QuestionRequestDto;
+import org.example.backend.dto.response.CursorSliceDto;
+import org.example.backend.dto.response.QuestionCountDto;
 import org.example.backend.dto.response.QuestionResponseDto;
-import org.example.backend.domain.question.QuestionLike;
-import org.example.backend.repository.CategoryRepository;
+import org.example.backend.dto.response.QuestionSearchHitDto;
+import org.example.backend.dto.response.QuestionSummaryDto;
 import org.example.backend.repository.MemberRepository;
-import org.example.backend.repository.QuestionLikeRepository;
 import org.example.backend.repository.QuestionRepository;
 import org.example.backend.repository.QuestionSpecification; // 추가
+import org.example.backend.search.QuestionSearchIndex;
+import org.example.backend.search.SearchSpecificationCompiler;
+import org.example.backend.support.KeysetCursor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification; // 추가
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -27,18 +40,31 @@ public class QuestionService {
 
     private final QuestionRepository questionRepository;
     private final MemberRepository memberRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
+    private final CategoryCache categoryCache;
     private final TagService tagService;
-    private final QuestionLikeRepository questionLikeRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final UniqueViewerCounter uniqueViewerCounter;
+    private final LikeCountService likeCountService;
+    private final QuestionSearchIndex questionSearchIndex;
+    private final SearchSpecificationCompiler searchSpecificationCompiler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final QuestionCountCache questionCountCache;
+    private final DailyStatsService dailyStatsService;
+    private final QuestionVersionRegistry questionVersionRegistry;
+    private final QuestionDetailCache questionDetailCache;
+
+    // 커서 기반 조회 정렬 기준 (idx_question_created_at_id 인덱스 순서)
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    private static final int MAX_SLICE_SIZE = 100;
 
     // 질문 등록
     @Transactional
-    public Long addQuestion(String userEmail, QuestionRequestDto request) {
-        Member member = memberRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+    public Long addQuestion(Long memberId, QuestionRequestDto request) {
+        // 로그인 정보로 확인된 회원이므로 SELECT 없이 참조만 사용
+        Member member = memberRepository.getReferenceById(memberId);
 
-        Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리입니다."));
+        Category category = categoryService.getCategoryReference(request.getCategoryId());
 
         Question question = new Question();
         question.setTitle(request.getTitle());
@@ -51,105 +77,154 @@ public class QuestionService {
         }
 
         if (request.getTagNames() != null) {
-            for (String tagName : request.getTagNames()) {
-                Tag tag = tagService.findOrCreateTag(tagName);
+            // 태그 이름을 한 번에 조회/등록
+            for (Tag tag : tagService.resolveTags(request.getTagNames())) {
                 QuestionTag questionTag = new QuestionTag();
                 questionTag.setTag(tag);
                 question.addQuestionTag(questionTag);
             }
         }
-        return questionRepository.save(question).getId();
+        Long questionId = questionRepository.save(question).getId();
+        dailyStatsService.recordCreated(question);
+        // 삭제 상태로 등록된 질문은 목록/검색 대상이 아니므로 이벤트를 발행하지 않음
+        if (!question.isStatus()) {
+            eventPublisher.publishEvent(QuestionChangedEvent.created(
+                    questionId, question.getTitle(), question.getContent(), category.getId(), false));
+        }
+        return questionId;
     }
 
-    // 질문 상세 조회
-    @Transactional
-    public QuestionResponseDto getQuestion(Long id) {
-        // 1. 조회수 증가
-        // (먼저 증가시켜야 DB에 반영되고, 이후 조회 시 최신 viewCount를 가져옵니다)
-        questionRepository.updateViewCount(id);
+    // 질문 상세 응답 JSON (version: getQuestionVersion으로 읽은 버전 / answerSize: null이면 답변 전체, 아니면 답변 첫 페이지만 / gzip: 압축 여부)
+    // 캐시된 응답이 최신이면 DB 조회와 직렬화를 하지 않으므로 트랜잭션도 시작하지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public byte[] getQuestionDetailJson(QuestionVersion version, String viewerKey, Integer answerSize, boolean gzip) {
+        int firstPageSize = answerSize == null ? 0 : Math.max(1, Math.min(answerSize, MAX_SLICE_SIZE));
+        byte[] json = questionDetailCache.render(version, firstPageSize, gzip);
+        recordView(version.questionId(), viewerKey);
+        return json;
+    }
 
-        // 2. 엔티티 조회
-        Question question = questionRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 질문입니다."));
+    // 조회수 기록 (304 응답처럼 본문을 만들지 않는 조회도 조회수에 포함)
+    public void recordView(Long id, String viewerKey) {
+        viewCountBuffer.increment(id);
+        uniqueViewerCounter.record(id, viewerKey);
+    }
 
-        // 3. 좋아요 수 조회
-        long likeCount = questionLikeRepository.countByQuestionId(id);
-        
-        // 4. DTO 변환 (Lazy Loading 발생 지점)
-        // @Transactional 안에서 실행되므로 Member, Tags, Category 등을 안전하게 가져옵니다.
-        return QuestionResponseDto.fromEntity(question, likeCount);
+    // 질문 현재 버전 (기본 키 조회 한 번, 본문을 만들기 전에 먼저 얻어야 함)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public QuestionVersion getQuestionVersion(Long id) {
+        return questionVersionRegistry.current(id);
+    }
+
+    // 질문 상세 / 답변 목록 ETag
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getQuestionEtag(Long id) {
+        return questionVersionRegistry.current(id).etag();
+    }
+
+    // 질문 목록 ETag (목록 조건에 맞는 질문을 집계 쿼리 한 번으로 읽음, 목록을 조회하기 전에 먼저 비교)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getQuestionListEtag(String category, String tag, String status, String search) {
+        return questionRepository.findListVersion(createSpecification(category, tag, status, search)).etag();
     }
 
     // 질문 목록 조회 (검색 조건 적용)
     public Page<QuestionResponseDto> getQuestions(Pageable pageable, String category, String tag, String status, String search) {
         Specification<Question> spec = createSpecification(category, tag, status, search);
-        return questionRepository.findAll(spec, pageable)
+        Page<Question> questions = questionRepository.findAll(spec, pageable);
+
+        return questions
                 .map(question -> {
-                    long likeCount = questionLikeRepository.countByQuestionId(question.getId());
-                    return QuestionResponseDto.fromEntity(question, likeCount);
+                    long likeCount = likeCountService.currentLikeCount(question.getId(), question.getLikeCount());
+                    int viewCount = viewCountBuffer.currentViewCount(question.getId(), question.getViewCount());
+                    return QuestionResponseDto.fromEntity(question, likeCount, viewCount);
                 });
     }
 
-    // 질문 개수 조회
-    public org.example.backend.dto.response.QuestionCountDto getQuestionCounts(String category, String search) {
-        long total = questionRepository.count(createSpecification(category, null, null, search));
-        long pending = questionRepository.count(createSpecification(category, null, "WAITING", search));
-        long answered = questionRepository.count(createSpecification(category, null, "ANSWERED", search));
-        return new org.example.backend.dto.response.QuestionCountDto(total, pending, answered);
+    // 질문 요약 목록 조회 (목록 화면용, 엔티티를 로딩하지 않는 프로젝션 쿼리)
+    public Page<QuestionSummaryDto> getQuestionSummaries(Pageable pageable, String category, String tag, String status, String search) {
+        Specification<Question> spec = createSpecification(category, tag, status, search);
+        return questionRepository.findSummaries(spec, pageable)
+                .map(summary -> summary
+                        .withViewCount(viewCountBuffer.currentViewCount(summary.getId(), summary.getViewCount()))
+                        .withLikeCount(likeCountService.currentLikeCount(summary.getId(), summary.getLikeCount())));
     }
 
-    // 공통 Specification 생성 로직
-    private Specification<Question> createSpecification(String category, String tag, String status, String search) {
-        Specification<Question> spec = Specification.where(QuestionSpecification.isNotDeleted());
-
-        // [수정된 부분] 검색어(search) 처리 로직
-        if (search != null && !search.trim().isEmpty()) {
-            String keyword = search.trim(); // 공백 제거
-
-            if (keyword.startsWith("#")) {
-                // 1. '#'으로 시작하면 태그 검색으로 간주
-                // 예: "#자바" -> substring(1)을 통해 "자바"만 추출
-                String tagName = keyword.substring(1);
-
-                // '#'만 입력된 경우가 아닐 때만 실행
-                if (!tagName.isEmpty()) {
-                    spec = spec.and(QuestionSpecification.hasTag(tagName));
-                }
-            } else {
-                // 2. '#'이 없으면 기존대로 제목+내용 검색
-                spec = spec.and(QuestionSpecification.containsKeyword(keyword));
-            }
+    // 질문 목록 커서 기반 조회 (무한 스크롤용, COUNT 쿼리 없음)
+    public CursorSliceDto<QuestionSummaryDto> getQuestionSlice(String cursor, int size, String category, String tag, String status, String search) {
+        int limit = Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+        Specification<Question> spec = createSpecification(category, tag, status, search)
+                .and(QuestionSpecification.beforeCursor(KeysetCursor.decode(cursor)));
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<QuestionSummaryDto> rows = questionRepository.findSummaries(spec, KEYSET_SORT, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<QuestionSummaryDto> content = (hasNext ? rows.subList(0, limit) : rows).stream()
+                .map(summary -> summary
+                        .withViewCount(viewCountBuffer.currentViewCount(summary.getId(), summary.getViewCount()))
+                        .withLikeCount(likeCountService.currentLikeCount(summary.getId(), summary.getLikeCount())))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            QuestionSummaryDto last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
         }
+        return new CursorSliceDto<>(content, nextCursor, hasNext, content.size());
+    }
 
-        if (category != null && !category.equals("전체") && !category.isEmpty()) {
-            spec = spec.and(QuestionSpecification.equalCategory(category));
+    // 질문 검색 (관련도순, 검색어 강조 스니펫 포함)
+    public List<QuestionSearchHitDto> searchQuestions(String keyword, int limit) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
         }
+        return questionSearchIndex.search(keyword, Math.max(1, Math.min(limit, MAX_SLICE_SIZE)));
+    }
 
-        // 태그를 클릭해서 들어온 경우 (URL 파라미터 ?tag=...)
-        if (tag != null) {
-            spec = spec.and(QuestionSpecification.hasTag(tag));
+    // 질문 개수 조회
+    public QuestionCountDto getQuestionCounts(String category, String search) {
+        // 검색어가 없으면 메모리에 집계된 값 사용 (DB 조회 없음)
+        if (search == null || search.isBlank()) {
+            Optional<QuestionCountDto> cached = questionCountCache.get(category);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
         }
+        // 전체/답변대기/답변완료 수를 조건부 집계 쿼리 한 번으로 조회
+        return questionRepository.countByAnswerState(createSpecification(category, null, null, search));
+    }
+
+    // 공통 Specification 생성 로직 (조합 순서는 QuestionSpecification.forList)
+    private Specification<Question> createSpecification(String category, String tag, String status, String search) {
+        // 검색어 문법(#태그, category:, author:, created:, is:answered, OR, -제외 등)을 Specification 하나로 변환
+        // 예: "#자바 #스프링 -#레거시 is:answered" -> 태그 조건은 서브쿼리 하나, 답변 상태 조건
+        Specification<Question> searchSpec = searchSpecificationCompiler.compile(search);
 
-        if (status != null) {
-            spec = spec.and(QuestionSpecification.filterByStatus(status));
+        Specification<Question> categorySpec = null;
+        if (category != null && !category.equals("전체") && !category.isEmpty()) {
+            categorySpec = QuestionSpecification.equalCategoryId(categoryCache.findId(category).orElse(null));
         }
 
-        return spec;
+        return QuestionSpecification.forList(searchSpec, categorySpec, tag, status);
     }
 
     // 질문 수정
     @Transactional
-    public QuestionResponseDto updateQuestion(Long questionId, String userEmail, QuestionRequestDto request) {
+    public QuestionResponseDto updateQuestion(Long questionId, Long memberId, QuestionRequestDto request) {
 
         Question question = questionRepository.findById(questionId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 질문입니다."));
 
-        if (!question.getMember().getEmail().equals(userEmail)) {
+        if (question.getMember() == null || !question.getMember().getId().equals(memberId)) {
             throw new IllegalStateException("수정 권한이 없습니다.");
         }
 
-        Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리입니다."));
+        Category category = categoryService.getCategoryReference(request.getCategoryId());
+
+        // 변경 전 상태 (질문 변경 이벤트용)
+        Long previousCategoryId = question.getCategory() != null ? question.getCategory().getId() : null;
+        boolean wasDeleted = question.isStatus();
+        Set<Long> previousTagIds = DailyStatsService.tagIds(question);
 
         question.update(request.getTitle(), request.getContent(), category);
 
@@ -160,67 +235,71 @@ public class QuestionService {
 
         if (request.getTagNames() != null) {
             question.getQuestionTags().clear(); // 기존 연관관계 제거 (OrphanRemoval 설정 필요)
-            for (String tagName : request.getTagNames()) {
-                Tag tag = tagService.findOrCreateTag(tagName);
+            for (Tag tag : tagService.resolveTags(request.getTagNames())) {
                 QuestionTag questionTag = new QuestionTag();
                 questionTag.setTag(tag);
                 question.addQuestionTag(questionTag);
             }
         }
 
-        long likeCount = questionLikeRepository.countByQuestionId(questionId);
+        dailyStatsService.recordChanged(question, previousCategoryId, previousTagIds);
+        publishQuestionUpdated(question, previousCategoryId, wasDeleted);
+        questionVersionRegistry.bump(questionId);
+
+        long likeCount = likeCountService.currentLikeCount(questionId, question.getLikeCount());
         return QuestionResponseDto.fromEntity(question, likeCount);
     }
 
-    // 질문 추천 토글
-    @Transactional
-    public long toggleQuestionLike(Long questionId, String userEmail) {
-        Question question = questionRepository.findById(questionId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 질문입니다."));
-        
-        Member member = memberRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
-        
-        // 이미 좋아요가 있는지 확인
-        var existingLike = questionLikeRepository.findByQuestionIdAndMemberId(questionId, member.getId());
-        
-        if (existingLike.isPresent()) {
-            // 좋아요 취소
-            questionLikeRepository.delete(existingLike.get());
+    // 수정 요청으로 삭제/복구될 수 있으므로 변경 전후 삭제 상태에 따라 이벤트 종류 결정
+    private void publishQuestionUpdated(Question question, Long previousCategoryId, boolean wasDeleted) {
+        boolean deleted = question.isStatus();
+        if (wasDeleted && deleted) {
+            return;
+        }
+        Long categoryId = question.getCategory() != null ? question.getCategory().getId() : null;
+        boolean answered = question.getAnswers().stream().anyMatch(Answer::isNotDeleted);
+
+        if (deleted) {
+            eventPublisher.publishEvent(QuestionChangedEvent.deleted(question.getId(), previousCategoryId, answered));
+        } else if (wasDeleted) {
+            eventPublisher.publishEvent(QuestionChangedEvent.created(
+                    question.getId(), question.getTitle(), question.getContent(), categoryId, answered));
         } else {
-            // 좋아요 추가
-            QuestionLike questionLike = new QuestionLike(member, question);
-            questionLikeRepository.save(questionLike);
+            eventPublisher.publishEvent(QuestionChangedEvent.updated(
+                    question.getId(), question.getTitle(), question.getContent(), categoryId, previousCategoryId, answered));
         }
-        
-        // 현재 좋아요 수 반환
-        return questionLikeRepository.countByQuestionId(questionId);
+    }
+
+    // 질문 추천 토글 (기존 API 호환, 추천 행을 미리 조회하지 않음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long toggleQuestionLike(Long questionId, Long memberId) {
+        return likeCountService.toggleLike(questionId, memberId);
+    }
+
+    // 질문 추천 설정/해제 (같은 요청을 반복해도 결과가 같음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long setQuestionLike(Long questionId, Long memberId, boolean liked) {
+        return likeCountService.setLike(questionId, memberId, liked);
     }
 
     @Transactional
-    public void deleteQuestion(String email, Long id) {
+    public void deleteQuestion(Long memberId, boolean isAdmin, Long id) {
         Question question = questionRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 질문입니다."));
 
-        // 현재 사용자 조회
-        Member currentMember = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
-
         // 관리자가 아니고 작성자도 아닌 경우 삭제 권한 없음
-        boolean isAdmin = currentMember.getRole() == org.example.backend.domain.member.Role.ROLE_ADMIN;
-        
-        // 작성자 확인: 탈퇴한 사용자의 경우 email이 null이므로 null 체크 필요
+        // 작성자 확인: 탈퇴한 사용자는 로그인할 수 없으므로 탈퇴한 사용자의 질문은 관리자만 삭제 가능
         Member questionAuthor = question.getMember();
-        boolean isAuthor = false;
-        if (questionAuthor != null && questionAuthor.getEmail() != null) {
-            isAuthor = questionAuthor.getEmail().equals(email);
-        }
-        // 탈퇴한 사용자의 질문은 일반 사용자가 삭제할 수 없음 (관리자만 가능)
+        boolean isAuthor = questionAuthor != null && questionAuthor.getId().equals(memberId);
         
         if (!isAdmin && !isAuthor) {
             throw new IllegalStateException("삭제 권한이 없습니다.");
         }
 
+        // 삭제 전 상태 (질문 변경 이벤트용)
+        boolean wasDeleted = question.isStatus();
+        boolean answered = question.getAnswers().stream().anyMatch(Answer::isNotDeleted);
+
         // 관리자가 아닌 경우에만 답변 체크
         if (!isAdmin) {
             // 답변 중 status가 false인 답변이 있으면 삭제 불가
@@ -239,5 +318,10 @@ public class QuestionService {
 
         // 소프트 삭제: status를 true로 설정
         question.setStatus(true);
+        questionVersionRegistry.bump(id);
+        if (!wasDeleted) {
+            Long categoryId = question.getCategory() != null ? question.getCategory().getId() : null;
+            eventPublisher.publishEvent(QuestionChangedEvent.deleted(id, categoryId, answered));
+        }
     }
 }
\ No newline at end of file
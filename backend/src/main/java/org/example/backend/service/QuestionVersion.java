@@ -0,0 +1,19 @@
+package org.example.backend.service;
+
+/**
+ * 질문의 현재 버전 (조건부 조회용 ETag와 질문 상세 응답 캐시 키)
+ * @param contentVersion questions.content_version (질문/답변/작성자/카테고리 변경 시 DB에서 1씩 증가)
+ * @param likeCount      현재 추천 수 (like_count + 이 서버에서 반영 대기 중인 증감분)
+ * @param viewCount      DB에 반영된 조회수 (ETag에는 포함하지 않음)
+ */
+public record QuestionVersion(Long questionId, long contentVersion, long likeCount, int viewCount) {
+
+    public QuestionVersion withLikeCount(long likeCount) {
+        return new QuestionVersion(questionId, contentVersion, likeCount, viewCount);
+    }
+
+    // 질문 상세 / 답변 목록 ETag (조회수 제외)
+    public String etag() {
+        return "W/\"q" + questionId + "-" + contentVersion + "." + likeCount + "\"";
+    }
+}
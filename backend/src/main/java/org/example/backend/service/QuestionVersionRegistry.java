@@ -0,0 +1,62 @@
+package org.example.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.repository.QuestionRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 질문 버전 조회/변경
+ * 버전은 questions.content_version에 저장하고 질문 수정/삭제, 답변 등록/수정/삭제와 같은 트랜잭션에서 UPDATE로 올립니다.
+ * 서버 인스턴스가 여러 개여도 모두 같은 DB 값으로 ETag를 만들므로, 다른 서버에서 커밋한 변경도 바로 반영됩니다.
+ * 작성자 닉네임, 카테고리 이름처럼 여러 질문에 걸친 변경은 해당 질문들의 버전을 한 번에 올립니다.
+ *
+ * 추천 수는 버전 대신 현재 값을 ETag에 넣습니다 (다른 서버에서 반영 대기 중인 추천은 그 서버가 DB에 반영한 뒤에 보임).
+ * 조회수는 버전에 포함하지 않으므로 304 응답을 받은 클라이언트의 조회수는 다음 변경 전까지 갱신되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionVersionRegistry {
+
+    // 추천 수 반영과 겹쳐 DB 값과 버퍼 값이 어긋났을 때 다시 읽는 횟수
+    private static final int MAX_READ_ATTEMPTS = 3;
+
+    private final QuestionRepository questionRepository;
+    private final LikeCountBuffer likeCountBuffer;
+
+    /**
+     * 질문의 현재 버전 (존재하지 않는 질문이면 IllegalArgumentException)
+     * 호출한 쪽의 트랜잭션 스냅샷과 관계없이 최신 값을 보도록 트랜잭션 밖에서 호출합니다.
+     */
+    public QuestionVersion current(Long questionId) {
+        QuestionVersion version = null;
+        for (int attempt = 0; attempt < MAX_READ_ATTEMPTS; attempt++) {
+            long sequence = likeCountBuffer.flushSequence();
+            QuestionVersion persisted = questionRepository.findVersionById(questionId)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 질문입니다."));
+            version = persisted.withLikeCount(likeCountBuffer.currentLikeCount(questionId, persisted.likeCount()));
+            if (sequence % 2 == 0 && sequence == likeCountBuffer.flushSequence()) {
+                break;
+            }
+        }
+        return version;
+    }
+
+    // 질문 하나 변경 (변경과 같은 트랜잭션에서 호출)
+    public void bump(Long questionId) {
+        questionRepository.incrementContentVersion(questionId);
+    }
+
+    // 회원이 작성한 질문과 답변한 질문 변경 (닉네임 변경/탈퇴)
+    public void bumpByMember(Long memberId) {
+        questionRepository.incrementContentVersionByMember(memberId);
+    }
+
+    // 카테고리에 속한 질문 변경 (카테고리 이름 변경)
+    public void bumpByCategories(Collection<Long> categoryIds) {
+        if (!categoryIds.isEmpty()) {
+            questionRepository.incrementContentVersionByCategories(categoryIds);
+        }
+    }
+}
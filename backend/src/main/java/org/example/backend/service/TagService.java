@@ -4,16 +4,155 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.example.backend.domain.tag.Tag;
 import org.example.backend.repository.TagRepository;
+import org.example.backend.support.TagNames;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 이름 -> 태그 변환
+ * 이미 본 태그는 메모리 사전(이름 -> ID)에서 바로 찾고, 없는 태그만 한 번에 조회한 뒤 남은 태그를 한 건씩 등록합니다.
+ * 사전 키는 소문자로 맞추지만 DB collation(악센트/전각 무시 등)과 완전히 같지는 않으므로,
+ * 같은 태그인지는 최종적으로 DB의 unique 제약과 조회 결과로 판단합니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class TagService {
+
+    private static final int MAX_TAG_LENGTH = 50;
+    // 사전 최대 크기 (넘으면 더 이상 추가하지 않고 DB 조회)
+    private static final int MAX_DICTIONARY_SIZE = 10_000;
+
+    // 이미 있으면(동시에 등록했거나 DB collation이 같은 이름으로 판단) 그 행을 잠그고 ID를 LAST_INSERT_ID로 돌려받음
+    // (tags.name은 대소문자뿐 아니라 악센트/전각도 구분하지 않는 collation이므로 "café"로 "Cafe"가 잡힐 수 있음)
+    private static final String UPSERT_SQL = "INSERT INTO tags (name) VALUES (?) ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id)";
+    // 중복 시 키를 돌려주지 않는 드라이버(H2)용 조회, UPSERT가 이미 잠근 행이므로 잠금 읽기로 최신 행을 읽음
+    private static final String SELECT_SQL = "SELECT id FROM tags WHERE name = ? FOR UPDATE";
+
     private final TagRepository tagRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<String, Long> tagIds = new ConcurrentHashMap<>();
+
+    // 메모리에 보관 중인 태그 이름 -> ID 수
+    public int getCachedTagCount() {
+        return tagIds.size();
+    }
+
+    /**
+     * 태그 이름 목록을 태그로 변환 (정규화 후 중복 제거, 입력 순서 유지)
+     * 없는 태그는 등록하고, DB가 이미 있는 이름으로 판단하면 그 태그를 사용합니다.
+     */
+    public List<Tag> resolveTags(Collection<String> tagNames) {
+        Map<String, String> names = new LinkedHashMap<>(); // 사전 키 -> 정규화된 이름
+        for (String tagName : tagNames) {
+            String name = normalize(tagName);
+            if (!name.isEmpty()) {
+                names.putIfAbsent(key(name), name);
+            }
+        }
+
+        Map<String, Long> ids = new HashMap<>();
+        List<String> unknown = new ArrayList<>();
+        names.forEach((key, name) -> {
+            Long id = tagIds.get(key);
+            if (id != null) {
+                ids.put(key, id);
+            } else {
+                unknown.add(name);
+            }
+        });
+
+        if (!unknown.isEmpty()) {
+            // 커밋된 태그만 보이므로 바로 사전에 등록
+            for (Tag tag : tagRepository.findByNameIn(unknown)) {
+                ids.put(key(tag.getName()), tag.getId());
+                remember(key(tag.getName()), tag.getId());
+            }
+
+            List<String> missing = unknown.stream().filter(name -> !ids.containsKey(key(name))).toList();
+            if (!missing.isEmpty()) {
+                insertMissing(missing, ids);
+            }
+        }
+
+        // 서로 다른 이름이 DB에서 같은 태그로 판단될 수 있으므로 ID 기준으로 다시 중복 제거
+        return names.keySet().stream()
+                .map(ids::get)
+                .distinct()
+                .map(tagRepository::getReferenceById)
+                .toList();
+    }
+
+    /**
+     * 없는 태그를 질문/답변 트랜잭션 안에서 등록
+     * 별도 트랜잭션(REQUIRES_NEW)으로 등록하면 요청마다 커넥션이 두 개 필요해서, 풀 크기만큼 동시에 태그를 등록하면
+     * 모두 두 번째 커넥션을 기다리다 실패합니다. 등록한 태그는 커밋된 뒤에만 사전에 넣습니다 (롤백되면 없는 태그).
+     */
+    private void insertMissing(List<String> missing, Map<String, Long> ids) {
+        Map<String, Long> created = new HashMap<>();
+        for (String name : missing) {
+            created.put(key(name), upsert(name));
+        }
+        ids.putAll(created);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    created.forEach(TagService.this::remember);
+                }
+            });
+        } else {
+            created.forEach(this::remember);
+        }
+    }
+
+    // 등록한 태그 ID, 동시에 같은 이름이 등록되었거나 DB가 같은 이름으로 보는 태그가 있으면 그 태그 ID
+    // (상대 트랜잭션이 같은 이름을 등록 중이면 그 커밋을 기다린 뒤 상대 행을 돌려받음)
+    private Long upsert(String name) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, name);
+            return statement;
+        }, keyHolder);
+        Number key = keyHolder.getKey();
+        if (key != null && key.longValue() > 0) {
+            return key.longValue();
+        }
+        return jdbcTemplate.queryForObject(SELECT_SQL, Long.class, name);
+    }
+
+    private void remember(String key, Long id) {
+        if (tagIds.size() < MAX_DICTIONARY_SIZE) {
+            tagIds.put(key, id);
+        }
+    }
+
+    private static String normalize(String tagName) {
+        String name = TagNames.normalize(tagName);
+        if (name.length() > MAX_TAG_LENGTH) {
+            throw new IllegalArgumentException("태그는 " + MAX_TAG_LENGTH + "자 이하로 입력해주세요.");
+        }
+        return name;
+    }
 
-    public Tag findOrCreateTag(String tagName) {
-        return tagRepository.findByName(tagName)
-                .orElseGet(() -> tagRepository.save(new Tag(tagName)));
+    private static String key(String name) {
+        return TagNames.key(name);
     }
-}
\ No newline at end of file
+}
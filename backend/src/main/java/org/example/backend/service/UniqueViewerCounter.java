@@ -0,0 +1,143 @@
+package org.example.backend.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.question.QuestionViewSketch;
+import org.example.backend.repository.QuestionViewSketchRepository;
+import org.example.backend.support.HyperLogLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 질문별 고유 조회자 수 집계
+ * - 시간 구간(window) 동안 질문별 HyperLogLog 스케치에 조회자 키를 기록
+ * - 구간이 끝나면 저장된 스케치와 합쳐 blob으로 저장하고, 추정값이 바뀐 질문만 unique_view_count를 갱신
+ * - 여러 인스턴스가 같은 질문을 동시에 합칠 수 있으므로 저장된 스케치는 행 잠금(FOR UPDATE)으로 읽고,
+ *   처음 저장하는 스케치가 다른 인스턴스와 겹치면(중복 키) 그쪽 행을 잠가 읽은 뒤 합칩니다.
+ */
+@Slf4j
+@Component
+public class UniqueViewerCounter {
+
+    private static final String UPDATE_SQL = "UPDATE questions SET unique_view_count = ? WHERE id = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO question_view_sketches (question_id, registers, estimate, modified_at) VALUES (?, ?, ?, NOW(6))";
+
+    private final QuestionViewSketchRepository sketchRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    // 현재 시간 구간의 스케치 (compute/remove로만 접근해서 스케치 단위로 원자적으로 갱신)
+    private final ConcurrentHashMap<Long, HyperLogLog> windows = new ConcurrentHashMap<>();
+
+    public UniqueViewerCounter(QuestionViewSketchRepository sketchRepository,
+                               JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${knowledgeout.view-count.unique.enabled:true}") boolean enabled) {
+        this.sketchRepository = sketchRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+
+        Gauge.builder("knowledgeout.unique_viewers.open_windows", windows, Map::size)
+                .description("Questions with an unflushed unique-viewer sketch")
+                .register(Metrics.globalRegistry);
+    }
+
+    // viewerKey: 회원이면 회원 식별자, 비회원이면 세션/IP 기반 지문
+    public void record(Long questionId, String viewerKey) {
+        if (!enabled || viewerKey == null) {
+            return;
+        }
+        windows.compute(questionId, (id, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : new HyperLogLog();
+            target.offer(viewerKey);
+            return target;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${knowledgeout.view-count.unique.window-ms:60000}")
+    public void flush() {
+        Map<Long, HyperLogLog> closed = new TreeMap<>();
+        for (Long questionId : windows.keySet()) {
+            HyperLogLog sketch = windows.remove(questionId);
+            if (sketch != null) {
+                closed.put(questionId, sketch);
+            }
+        }
+        if (closed.isEmpty()) {
+            return;
+        }
+
+        try {
+            int updated = transactionTemplate.execute(status -> mergeWindows(closed));
+            log.debug("고유 조회자 스케치 {}건 병합, 카운터 {}건 갱신", closed.size(), updated);
+        } catch (RuntimeException e) {
+            // 다음 구간 스케치에 되돌려 두고 다시 시도
+            closed.forEach((questionId, sketch) -> windows.merge(questionId, sketch, (current, previous) -> {
+                current.merge(previous);
+                return current;
+            }));
+            log.warn("고유 조회자 스케치 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private int mergeWindows(Map<Long, HyperLogLog> closed) {
+        Map<Long, QuestionViewSketch> persisted = sketchRepository.findAllByIdForUpdate(closed.keySet()).stream()
+                .collect(Collectors.toMap(QuestionViewSketch::getQuestionId, Function.identity()));
+
+        List<Object[]> counterUpdates = new ArrayList<>();
+        closed.forEach((questionId, window) -> {
+            QuestionViewSketch sketch = persisted.get(questionId);
+            if (sketch == null && insert(questionId, window)) {
+                counterUpdates.add(new Object[]{window.estimate(), questionId});
+                return;
+            }
+            if (sketch == null) {
+                // 다른 인스턴스가 먼저 저장한 스케치 (잠근 뒤 합침)
+                sketch = sketchRepository.findAllByIdForUpdate(List.of(questionId)).getFirst();
+            }
+
+            // 추정값이 바뀐 경우에만 질문 카운터 갱신
+            if (sketch.merge(window)) {
+                counterUpdates.add(new Object[]{sketch.getEstimate(), questionId});
+            }
+        });
+
+        if (!counterUpdates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, counterUpdates);
+        }
+        return counterUpdates.size();
+    }
+
+    // 처음 저장하는 스케치 (같은 질문을 다른 인스턴스가 먼저 저장했으면 false)
+    // JPA로 저장하면 중복 키가 커밋 시점에 드러나 배치 전체가 롤백되므로 바로 실행되는 JdbcTemplate 사용
+    private boolean insert(Long questionId, HyperLogLog window) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, questionId, window.toBytes(), window.estimate());
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
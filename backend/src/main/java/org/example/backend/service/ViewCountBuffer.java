@@ -0,0 +1,85 @@
+package org.example.backend.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.support.StripedCounterBuffer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 질문 조회수 write-behind 버퍼
+ * 상세 조회마다 UPDATE를 실행하지 않고 메모리에 모아 두었다가 주기적으로 일괄 반영합니다.
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+    private static final String UPDATE_SQL = "UPDATE questions SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StripedCounterBuffer buffer = new StripedCounterBuffer();
+
+    public ViewCountBuffer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+
+        // 아직 DB에 반영되지 않은 조회수 합계
+        Gauge.builder("knowledgeout.view_count.pending", buffer, StripedCounterBuffer::pendingTotal)
+                .description("Buffered question views not yet flushed to the database")
+                .register(Metrics.globalRegistry);
+    }
+
+    public void increment(Long questionId) {
+        buffer.increment(questionId);
+    }
+
+    // DB 값에 아직 반영되지 않은 조회수를 더한 값
+    public int currentViewCount(Long questionId, int persistedViewCount) {
+        return (int) Math.min(Integer.MAX_VALUE, persistedViewCount + buffer.pending(questionId));
+    }
+
+    public long getPendingViewCount() {
+        return buffer.pendingTotal();
+    }
+
+    // 반영 대기 중인 증감분이 있는 질문 수
+    public int getPendingQuestionCount() {
+        return buffer.size();
+    }
+
+    @Scheduled(fixedDelayString = "${knowledgeout.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        try {
+            buffer.drain(this::write);
+        } catch (RuntimeException e) {
+            // 버퍼에 되돌려 두었으므로 다음 주기에 다시 시도
+            log.warn("조회수 반영 실패 (pending={}): {}", buffer.pendingTotal(), e.getMessage());
+        }
+    }
+
+    // 애플리케이션 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (buffer.pendingTotal() > 0) {
+            log.warn("종료 시점에 반영하지 못한 조회수: {}", buffer.pendingTotal());
+        }
+    }
+
+    private void write(Map<Long, Long> batch) {
+        List<Object[]> args = new ArrayList<>(batch.size());
+        batch.forEach((questionId, delta) -> args.add(new Object[]{delta, questionId}));
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, args));
+        log.debug("조회수 {}건 반영", batch.size());
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.backend.support;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+/**
+ * 요청(스레드) 단위 Hibernate 엔티티 로딩 수
+ * SessionFactory 전체 통계(Statistics)는 모든 요청의 합계라서 요청별로 나눌 수 없으므로,
+ * Interceptor.onLoad(엔티티 로딩 시점)에서 현재 스레드의 카운터를 올립니다.
+ * SQL 실행 수는 JdbcTemplate/네이티브 쿼리까지 포함하도록 DataSource에서 셉니다 (SqlCapture).
+ * begin()을 호출하지 않은 스레드(스케줄러 등)에서는 아무것도 세지 않습니다.
+ */
+public final class HibernateRequestStats implements Interceptor {
+
+    public static final HibernateRequestStats INSTANCE = new HibernateRequestStats();
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    public static final class Counts {
+        private long entitiesLoaded;
+
+        public long entitiesLoaded() {
+            return entitiesLoaded;
+        }
+    }
+
+    private HibernateRequestStats() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new Counts());
+    }
+
+    // 집계를 끝내고 결과 반환 (begin 없이 호출하면 null)
+    public static Counts end() {
+        Counts counts = CURRENT.get();
+        CURRENT.remove();
+        return counts;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.entitiesLoaded++;
+        }
+        return false;
+    }
+}
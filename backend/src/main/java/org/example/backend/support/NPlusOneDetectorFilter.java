@@ -0,0 +1,57 @@
+package org.example.backend.support;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * N+1 감지 (개발 모드)
+ * 한 요청에서 같은 형태의 SQL이 threshold번 이상 실행되면 SQL 형태와 실행하게 만든 코드 위치를 경고 로그로 남깁니다.
+ * 지연 로딩(getMember(), getAnswers() 등)이 원인이면 호출 위치는 Dto 변환 메서드가 됩니다.
+ */
+@Slf4j
+public class NPlusOneDetectorFilter extends OncePerRequestFilter {
+
+    private final int threshold;
+
+    public NPlusOneDetectorFilter(int threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (SqlCapture capture = SqlCapture.begin()) {
+            chain.doFilter(request, response);
+            report(request, capture);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    private void report(HttpServletRequest request, SqlCapture capture) {
+        for (Map.Entry<String, List<SqlCapture.Statement>> entry : capture.byShape().entrySet()) {
+            List<SqlCapture.Statement> statements = entry.getValue();
+            if (statements.size() < threshold) {
+                continue;
+            }
+            Set<String> callSites = new LinkedHashSet<>();
+            statements.forEach(statement -> callSites.add(statement.callSite()));
+            log.warn("N+1 의심: {} {} 요청에서 같은 SQL {}회 (요청 전체 {}회)\n  SQL: {}\n  호출 위치: {}",
+                    request.getMethod(), request.getRequestURI(), statements.size(), capture.count(),
+                    entry.getKey(), callSites);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.backend.support;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * API 요청마다 실행한 SQL 문장 수(Statement.execute* 호출, SqlCapture)와 Hibernate가 로딩한 엔티티 수를 기록
+ * (knowledgeout.http.request.statements / knowledgeout.http.request.entities_loaded, method/uri 태그)
+ * 인증 필터에서 실행되는 조회도 포함되도록 보안 필터보다 먼저 등록합니다.
+ */
+public class RequestQueryMetricsFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        HibernateRequestStats.begin();
+        SqlCapture capture = SqlCapture.beginCounting();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            capture.close();
+            HibernateRequestStats.Counts counts = HibernateRequestStats.end();
+            // 핸들러 매핑 전에 끝난 요청(404, 인증 실패 등)은 uri 태그 폭증을 막기 위해 제외
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (counts != null && pattern != null) {
+                record("knowledgeout.http.request.statements", "SQL statements executed per request",
+                        request.getMethod(), pattern.toString(), capture.count());
+                record("knowledgeout.http.request.entities_loaded", "Entities loaded by Hibernate per request",
+                        request.getMethod(), pattern.toString(), counts.entitiesLoaded());
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    private static void record(String name, String description, String method, String uri, long value) {
+        DistributionSummary.builder(name)
+                .description(description)
+                .tags("method", method, "uri", uri)
+                .register(Metrics.globalRegistry)
+                .record(value);
+    }
+}
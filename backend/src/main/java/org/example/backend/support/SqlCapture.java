@@ -0,0 +1,147 @@
+package org.example.backend.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 현재 스레드에서 실행한 SQL 기록 (SqlCaptureDataSource가 채움)
+ * 요청별 SQL 실행 수 메트릭(RequestQueryMetricsFilter), 부하 테스트의 엔드포인트별 집계,
+ * N+1 감지(NPlusOneDetectorFilter), 테스트의 SQL 문장 수 예산 확인이 모두 이 기록을 읽습니다.
+ * - beginCounting(): 실행 수만 셈 (운영에서 항상 사용)
+ * - begin(): 문장마다 SQL 형태와 호출 위치(스택)까지 남김 (개발/테스트용)
+ * 기록 중에 다시 시작하면 안쪽 기록에 남긴 문장이 바깥 기록에도 함께 남습니다 (close는 시작한 역순으로).
+ * 기록 중이 아닌 스레드(스케줄러 등)에서 실행한 문장은 backgroundCount()로 셉니다.
+ */
+public final class SqlCapture implements AutoCloseable {
+
+    private static final ThreadLocal<SqlCapture> CURRENT = new ThreadLocal<>();
+    private static final LongAdder BACKGROUND = new LongAdder();
+
+    private static final String APPLICATION_PACKAGE = "org.example.backend.";
+    private static final String SUPPORT_PACKAGE = "org.example.backend.support.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    // IN 목록 길이(배치 로딩 크기 등)가 달라도 같은 형태로 봄
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin \\(\\?(?:, ?\\?)*\\)");
+
+    /**
+     * 실행한 SQL 한 건
+     * @param sql      실행한 SQL (파라미터는 ?)
+     * @param shape    리터럴, IN 목록 길이, 공백을 정규화한 형태
+     * @param callSite SQL을 실행하게 만든 애플리케이션 코드 위치 (클래스.메서드:줄)
+     */
+    public record Statement(String sql, String shape, String callSite) {
+    }
+
+    private final SqlCapture parent;
+    private final boolean detailed;
+    private final List<Statement> statements = new ArrayList<>();
+    private int count;
+
+    private SqlCapture(SqlCapture parent, boolean detailed) {
+        this.parent = parent;
+        this.detailed = detailed;
+    }
+
+    // SQL 형태와 호출 위치까지 기록
+    public static SqlCapture begin() {
+        return start(true);
+    }
+
+    // 실행 수만 기록
+    public static SqlCapture beginCounting() {
+        return start(false);
+    }
+
+    private static SqlCapture start(boolean detailed) {
+        SqlCapture capture = new SqlCapture(CURRENT.get(), detailed);
+        CURRENT.set(capture);
+        return capture;
+    }
+
+    // 기록 중이 아닌 스레드에서 실행한 문장 수 (애플리케이션 시작 후 누적)
+    public static long backgroundCount() {
+        return BACKGROUND.sum();
+    }
+
+    @Override
+    public void close() {
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+
+    // 자세히 기록하는 중인 스레드에서만 호출 위치를 찾음 (실행 수만 셀 때는 비용 없음)
+    static void record(String sql) {
+        SqlCapture capture = CURRENT.get();
+        if (capture == null) {
+            BACKGROUND.increment();
+            return;
+        }
+        Statement statement = null;
+        for (SqlCapture c = capture; c != null; c = c.parent) {
+            c.count++;
+            if (c.detailed) {
+                if (statement == null) {
+                    statement = new Statement(sql, shape(sql), callSite());
+                }
+                c.statements.add(statement);
+            }
+        }
+    }
+
+    // 실행한 문장 (begin()으로 시작한 경우만, beginCounting()이면 빈 목록)
+    public List<Statement> statements() {
+        return Collections.unmodifiableList(statements);
+    }
+
+    public int count() {
+        return count;
+    }
+
+    // 형태별 실행 목록 (처음 실행한 순서)
+    public Map<String, List<Statement>> byShape() {
+        Map<String, List<Statement>> result = new LinkedHashMap<>();
+        for (Statement statement : statements) {
+            result.computeIfAbsent(statement.shape(), key -> new ArrayList<>()).add(statement);
+        }
+        return result;
+    }
+
+    public static String shape(String sql) {
+        String shape = WHITESPACE.matcher(sql.strip()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return IN_LIST.matcher(shape).replaceAll("in (?)");
+    }
+
+    // 가장 안쪽의 애플리케이션 코드 (DataSource 프록시, Spring/Hibernate 프록시 클래스는 제외)
+    private static String callSite() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> isApplicationFrame(frame.getClassName()))
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("(unknown)"));
+    }
+
+    private static boolean isApplicationFrame(String className) {
+        return className.startsWith(APPLICATION_PACKAGE)
+                && !className.startsWith(SUPPORT_PACKAGE)
+                && !className.contains("$$")
+                && !className.contains("$HibernateProxy");
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
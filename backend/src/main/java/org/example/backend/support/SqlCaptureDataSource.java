@@ -0,0 +1,78 @@
+package org.example.backend.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Statement의 execute*() 호출을 SqlCapture에 기록하는 DataSource
+ * Hibernate뿐 아니라 JdbcTemplate, 네이티브 쿼리도 모두 DataSource를 거치므로 빠짐없이 셉니다.
+ * executeBatch는 DB 왕복 한 번이므로 1회로 기록합니다.
+ * 요청별 SQL 실행 수 메트릭에 사용하므로 항상 감쌉니다 (MetricsConfig).
+ */
+public class SqlCaptureDataSource extends DelegatingDataSource {
+
+    public SqlCaptureDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return capture(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return capture(super.getConnection(username, password));
+    }
+
+    // prepareStatement(sql)/prepareCall(sql)로 만든 문장은 SQL을 기억해 두고, createStatement()는 execute(sql) 인자를 기록
+    private static Connection capture(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                SqlCaptureDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> {
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof Statement statement) {
+                            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                            yield capture(statement, method.getReturnType(), sql);
+                        }
+                        yield result;
+                    }
+                });
+    }
+
+    private static Object capture(Statement statement, Class<?> type, String preparedSql) {
+        return Proxy.newProxyInstance(
+                SqlCaptureDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> {
+                        if (method.getName().startsWith("execute")) {
+                            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                            SqlCapture.record(sql != null ? sql : "(batch)");
+                        }
+                        yield invoke(statement, method, args);
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.backend.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 키(주로 엔티티 id)별 증감분을 메모리에 모아두었다가 한 번에 내보내는 카운터 버퍼
+ * - 키마다 LongAdder(내부적으로 스트라이프된 셀)를 사용하므로 같은 키에 요청이 몰려도 락 경합이 없음
+ * - drain() 중인 값은 inFlight에 보관해 두어 DB 반영 전에도 pending()에 포함됨
+ */
+public class StripedCounterBuffer {
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> inFlight = new ConcurrentHashMap<>();
+    // 직전 drain에서 유휴 상태로 제거된 카운터 (제거 직전에 참조를 얻은 스레드의 증가분을 다음 drain에서 회수)
+    private List<Map.Entry<Long, LongAdder>> retired = new ArrayList<>();
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    public void add(Long key, long delta) {
+        counters.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+    }
+
+    public void increment(Long key) {
+        add(key, 1L);
+    }
+
+    // 아직 DB에 반영되지 않은 증감분 (버퍼 + 반영 중인 값)
+    public long pending(Long key) {
+        LongAdder adder = counters.get(key);
+        long buffered = adder != null ? adder.sum() : 0L;
+        return buffered + inFlight.getOrDefault(key, 0L);
+    }
+
+    // 반영 대기 중인 전체 증감분 합계 (메트릭용)
+    public long pendingTotal() {
+        long total = 0L;
+        for (LongAdder adder : counters.values()) {
+            total += adder.sum();
+        }
+        for (Long value : inFlight.values()) {
+            total += value;
+        }
+        return total;
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    /**
+     * 쌓인 증감분을 키 오름차순 배치로 writer에 전달합니다.
+     * writer가 예외를 던지면 증감분을 버퍼에 되돌리고 예외를 다시 던집니다.
+     */
+    public void drain(Consumer<Map<Long, Long>> writer) {
+        drainLock.lock();
+        try {
+            // 키 오름차순으로 정렬해 여러 인스턴스가 동시에 반영해도 행 잠금 순서가 같도록 함
+            Map<Long, Long> batch = new TreeMap<>();
+
+            for (Map.Entry<Long, LongAdder> entry : retired) {
+                long residual = entry.getValue().sumThenReset();
+                if (residual != 0) {
+                    batch.merge(entry.getKey(), residual, Long::sum);
+                }
+            }
+            retired = new ArrayList<>();
+
+            for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+                long delta = entry.getValue().sumThenReset();
+                if (delta != 0) {
+                    batch.merge(entry.getKey(), delta, Long::sum);
+                } else if (counters.remove(entry.getKey(), entry.getValue())) {
+                    retired.add(Map.entry(entry.getKey(), entry.getValue()));
+                }
+            }
+
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            inFlight.putAll(batch);
+            try {
+                writer.accept(Collections.unmodifiableMap(batch));
+            } catch (RuntimeException e) {
+                batch.forEach(this::add);
+                throw e;
+            } finally {
+                batch.keySet().forEach(inFlight::remove);
+            }
+        } finally {
+            drainLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.backend.support;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 태그 이름 정규화 규칙 (태그 등록과 태그 검색이 같은 규칙을 쓰도록 한 곳에 둠)
+ */
+public final class TagNames {
+
+    private TagNames() {
+    }
+
+    // 앞뒤 공백 제거, 연속 공백 하나로, 전각/호환 문자 통일
+    public static String normalize(String tagName) {
+        if (tagName == null) {
+            return "";
+        }
+        return Normalizer.normalize(tagName, Normalizer.Form.NFKC).strip().replaceAll("\\s+", " ");
+    }
+
+    // 같은 태그로 보는 키 (대소문자 무시, DB collation과 같은 방향)
+    public static String key(String normalizedName) {
+        return normalizedName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.backend.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가상 스레드 고정(pinning) 감지
+ * synchronized 블록이나 네이티브 호출 안에서 블로킹되어 가상 스레드가 캐리어 스레드를 놓지 못한 경우
+ * JFR 이벤트(jdk.VirtualThreadPinned)를 받아 횟수를 세고, 호출 위치별로 1분에 한 번 로그를 남깁니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final long LOG_INTERVAL_MS = 60_000;
+    private static final int MAX_FRAMES = 12;
+
+    private final Duration threshold;
+    private final Counter pinned = Counter.builder("knowledgeout.virtual_thread.pinned")
+            .description("Virtual thread pinning events longer than the threshold")
+            .register(Metrics.globalRegistry);
+    private final Map<String, Long> lastLogged = new ConcurrentHashMap<>();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${knowledgeout.virtual-threads.pinning-threshold-ms:20}") long thresholdMs) {
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+
+        String site = callSite(event);
+        long now = System.currentTimeMillis();
+        Long previous = lastLogged.get(site);
+        if (previous != null && now - previous < LOG_INTERVAL_MS) {
+            return;
+        }
+        lastLogged.put(site, now);
+        log.warn("가상 스레드 고정 {}ms: {}", event.getDuration().toMillis(), stackTrace(event));
+    }
+
+    // 애플리케이션 코드 중 가장 안쪽 프레임 (없으면 맨 위 프레임)
+    private static String callSite(RecordedEvent event) {
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            if (frame.getMethod().getType().getName().startsWith("org.example.backend")) {
+                return format(frame);
+            }
+        }
+        return format(event.getStackTrace().getFrames().get(0));
+    }
+
+    private static String stackTrace(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "(stack trace 없음)";
+        }
+        StringBuilder sb = new StringBuilder();
+        event.getStackTrace().getFrames().stream().limit(MAX_FRAMES)
+                .forEach(frame -> sb.append("\n\tat ").append(format(frame)));
+        return sb.toString();
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,294 @@
+package org.example.backend.sql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.backend.service.CategoryService;
+import org.example.backend.support.SqlCaptureDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 문장 수 예산
+ * 목록 응답에 질문/답변이 15건씩 들어가도록 데이터를 넣어 두므로, 지연 로딩이나 건별 조회가 새로 생기면(N+1)
+ * 문장 수가 건수만큼 늘어나 예산을 넘습니다.
+ * 예산은 이 테스트로 측정한 실행 수 + 1입니다. 테스트 순서에 따라 달라질 수 있는 캐시 적재 한 번
+ * (카테고리/개수 캐시, 세션 회원 조회 등)만 허용하고, 쿼리가 하나라도 더 늘면 실패하도록 여유를 두지 않습니다.
+ * 쿼리를 줄였거나 의도적으로 늘렸다면 실패 메시지의 실행 수로 예산을 다시 맞춥니다.
+ * 예산 0회(검색, 검색어 없는 개수 요약)는 메모리 색인/집계만 읽는 경로입니다. 색인과 집계는 시작 시 적재되므로 여유를 두지 않습니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointSqlBudgetTest {
+
+    private static final String API = "/api/knowledgeout";
+    private static final String PASSWORD = "budget-password";
+    private static final int QUESTIONS = 15;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private CategoryService categoryService;
+
+    private SqlBudget budget;
+    private Long categoryId;
+    private MockHttpSession writer;
+    private MockHttpSession reader;
+    private MockHttpSession admin;
+    private Long readerId;
+    private Long questionId;
+
+    @BeforeAll
+    void seed() throws Exception {
+        // SqlCaptureDataSource가 없으면 모든 예산이 0회로 통과하므로 먼저 확인
+        assertThat(dataSource.isWrapperFor(SqlCaptureDataSource.class)).isTrue();
+        budget = new SqlBudget(mockMvc);
+
+        jdbcTemplate.update("INSERT INTO categories (name) VALUES ('백엔드'), ('프론트엔드')");
+        categoryService.refreshCategories();
+        categoryId = jdbcTemplate.queryForObject("SELECT id FROM categories WHERE name = '백엔드'", Long.class);
+
+        writer = signupAndLogin("writer");
+        reader = signupAndLogin("reader");
+        signup("admin");
+        jdbcTemplate.update("UPDATE members SET role = 'ROLE_ADMIN' WHERE nickname = 'admin'");
+        admin = login("admin");
+        readerId = jdbcTemplate.queryForObject("SELECT id FROM members WHERE nickname = 'reader'", Long.class);
+
+        // 질문마다 답변 2개(읽는 회원, 관리자)와 추천 1개
+        for (int i = 0; i < QUESTIONS; i++) {
+            Long id = createQuestion(writer, "질문 " + i, i % 2 == 0 ? List.of("스프링", "JPA") : List.of("리액트"));
+            createAnswer(reader, id);
+            createAnswer(admin, id);
+            mockMvc.perform(put(API + "/questions/" + id + "/likes").session(reader)).andExpect(status().isOk());
+            if (questionId == null) {
+                questionId = id;
+            }
+        }
+    }
+
+    // ===== 질문 조회 =====
+
+    @Test
+    void questionList() throws Exception {
+        String etag = budget.expectAtMost(9, get(API + "/questions").param("size", "20"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        // 목록이 바뀌지 않았으면 버전 집계 쿼리만 실행하고 304
+        budget.expectAtMost(2, get(API + "/questions").param("size", "20").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void questionSummaries() throws Exception {
+        budget.expectAtMost(3, get(API + "/questions/summaries").param("size", "20")).andExpect(status().isOk());
+    }
+
+    @Test
+    void questionSlice() throws Exception {
+        budget.expectAtMost(3, get(API + "/questions/cursor").param("size", "20")).andExpect(status().isOk());
+        budget.expectAtMost(3, get(API + "/questions/cursor").param("size", "20").param("search", "#스프링"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void questionSearch() throws Exception {
+        budget.expectAtMost(0, get(API + "/questions/search").param("q", "질문")).andExpect(status().isOk());
+    }
+
+    @Test
+    void questionCounts() throws Exception {
+        budget.expectAtMost(0, get(API + "/questions/count-summary")).andExpect(status().isOk());
+        budget.expectAtMost(2, get(API + "/questions/count-summary").param("search", "질문")).andExpect(status().isOk());
+    }
+
+    @Test
+    void questionDetail() throws Exception {
+        budget.expectAtMost(9, get(API + "/questions/" + questionId)).andExpect(status().isOk());
+        budget.expectAtMost(10, get(API + "/questions/" + questionId).param("answerSize", "1").session(reader))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void answerList() throws Exception {
+        budget.expectAtMost(4, get(API + "/questions/" + questionId + "/answers")).andExpect(status().isOk());
+        budget.expectAtMost(4, get(API + "/questions/" + questionId + "/answers/cursor").param("size", "1"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void categories() throws Exception {
+        budget.expectAtMost(1, get(API + "/categories")).andExpect(status().isOk());
+    }
+
+    // ===== 질문/답변/추천 변경 =====
+
+    @Test
+    void questionWrites() throws Exception {
+        String body = json(Map.of("categoryId", categoryId, "title", "예산 질문", "content", "본문",
+                "tagNames", List.of("스프링", "새태그")));
+        Long id = Long.parseLong(budget.expectAtMost(8, post(API + "/questions").session(writer)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+
+        String update = json(Map.of("categoryId", categoryId, "title", "예산 질문 수정", "content", "본문 수정",
+                "tagNames", List.of("JPA")));
+        budget.expectAtMost(13, put(API + "/questions/" + id).session(writer)
+                        .contentType(MediaType.APPLICATION_JSON).content(update))
+                .andExpect(status().isOk());
+
+        budget.expectAtMost(5, delete(API + "/questions/" + id).session(writer)).andExpect(status().isOk());
+    }
+
+    @Test
+    void answerWrites() throws Exception {
+        String body = json(Map.of("content", "예산 답변"));
+        Long id = Long.parseLong(budget.expectAtMost(5, post(API + "/questions/" + questionId + "/answers").session(writer)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+
+        budget.expectAtMost(5, put(API + "/questions/" + questionId + "/answers/" + id).session(writer)
+                        .contentType(MediaType.APPLICATION_JSON).content(json(Map.of("content", "예산 답변 수정"))))
+                .andExpect(status().isOk());
+
+        budget.expectAtMost(6, delete(API + "/questions/" + questionId + "/answers/" + id).session(writer))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void likeWrites() throws Exception {
+        String likes = API + "/questions/" + questionId + "/likes";
+        budget.expectAtMost(3, put(likes).session(writer)).andExpect(status().isOk());
+        budget.expectAtMost(3, delete(likes).session(writer)).andExpect(status().isOk());
+        budget.expectAtMost(4, post(likes).session(writer)).andExpect(status().isOk());
+        budget.expectAtMost(3, post(likes).session(writer)).andExpect(status().isOk());
+    }
+
+    // ===== 회원 =====
+
+    @Test
+    void signupAndLoginRequests() throws Exception {
+        budget.expectAtMost(4, post(API + "/members/signup")
+                        .contentType(MediaType.APPLICATION_JSON).content(memberJson("signup")))
+                .andExpect(status().isCreated());
+        budget.expectAtMost(2, post(API + "/members/login")
+                        .contentType(MediaType.APPLICATION_JSON).content(loginJson("signup")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void memberPages() throws Exception {
+        budget.expectAtMost(3, get(API + "/members/current").session(reader)).andExpect(status().isOk());
+        budget.expectAtMost(2, get(API + "/members/mypage").session(reader)).andExpect(status().isOk());
+        budget.expectAtMost(8, get(API + "/members/mypage/questions").session(writer)).andExpect(status().isOk());
+        budget.expectAtMost(3, get(API + "/members/mypage/questions/cursor").session(writer)).andExpect(status().isOk());
+        budget.expectAtMost(2, get(API + "/members/mypage/answers").session(reader)).andExpect(status().isOk());
+        budget.expectAtMost(2, get(API + "/members/mypage/answers/cursor").session(reader)).andExpect(status().isOk());
+        budget.expectAtMost(8, get(API + "/members/mypage/likes").session(reader)).andExpect(status().isOk());
+        budget.expectAtMost(3, get(API + "/members/mypage/likes/cursor").session(reader)).andExpect(status().isOk());
+    }
+
+    @Test
+    void memberUpdateAndWithdraw() throws Exception {
+        budget.expectAtMost(6, put(API + "/members/" + readerId).session(reader)
+                        .contentType(MediaType.APPLICATION_JSON).content(json(Map.of("nickname", "reader2"))))
+                .andExpect(status().isOk());
+        jdbcTemplate.update("UPDATE members SET nickname = 'reader' WHERE id = ?", readerId);
+
+        MockHttpSession leaving = signupAndLogin("leaving");
+        budget.expectAtMost(6, delete(API + "/members/mypage/withdraw").session(leaving))
+                .andExpect(status().isNoContent());
+    }
+
+    // ===== 관리자 =====
+
+    @Test
+    void adminPages() throws Exception {
+        String today = LocalDate.now().toString();
+        budget.expectAtMost(5, get(API + "/admin/dashboard").session(admin)).andExpect(status().isOk());
+        budget.expectAtMost(2, get(API + "/admin/stats/daily").session(admin)
+                        .param("type", "tag").param("name", "스프링"))
+                .andExpect(status().isOk());
+        budget.expectAtMost(5, post(API + "/admin/stats/rebuild").session(admin)
+                        .param("from", today).param("to", today))
+                .andExpect(status().isOk());
+        budget.expectAtMost(2, post(API + "/admin/categories/refresh").session(admin)).andExpect(status().isOk());
+        budget.expectAtMost(1, get(API + "/admin/metrics").session(admin)).andExpect(status().isOk());
+    }
+
+    private MockHttpSession signupAndLogin(String nickname) throws Exception {
+        signup(nickname);
+        return login(nickname);
+    }
+
+    private void signup(String nickname) throws Exception {
+        perform(post(API + "/members/signup").contentType(MediaType.APPLICATION_JSON).content(memberJson(nickname)));
+    }
+
+    private MockHttpSession login(String nickname) throws Exception {
+        return (MockHttpSession) mockMvc.perform(post(API + "/members/login")
+                        .contentType(MediaType.APPLICATION_JSON).content(loginJson(nickname)))
+                .andExpect(status().isOk())
+                .andReturn().getRequest().getSession(false);
+    }
+
+    private Long createQuestion(MockHttpSession session, String title, List<String> tags) throws Exception {
+        String body = json(Map.of("categoryId", categoryId, "title", title, "content", title + " 본문", "tagNames", tags));
+        return Long.parseLong(perform(post(API + "/questions").session(session)
+                .contentType(MediaType.APPLICATION_JSON).content(body)));
+    }
+
+    private Long createAnswer(MockHttpSession session, Long question) throws Exception {
+        return Long.parseLong(perform(post(API + "/questions/" + question + "/answers").session(session)
+                .contentType(MediaType.APPLICATION_JSON).content(json(Map.of("content", "답변")))));
+    }
+
+    private String perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request)
+                .andExpect(status().is2xxSuccessful())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private String memberJson(String nickname) throws Exception {
+        return json(Map.of("email", nickname + "@example.com", "password", PASSWORD, "nickname", nickname));
+    }
+
+    private String loginJson(String nickname) throws Exception {
+        return json(Map.of("email", nickname + "@example.com", "password", PASSWORD));
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+}
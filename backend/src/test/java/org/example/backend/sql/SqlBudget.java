@@ -0,0 +1,51 @@
+package org.example.backend.sql;
+
+import org.example.backend.support.SqlCapture;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 요청 하나가 실행하는 SQL 문장 수 예산
+ * 예: budget.expectAtMost(12, get("/api/knowledgeout/questions").param("size", "20")).andExpect(status().isOk());
+ * MockMvc는 테스트 스레드에서 요청을 처리하므로 필터, 인증, 지연 로딩, 커밋 후 작업에서 실행한 SQL까지 모두 셉니다.
+ * 예산을 넘으면 SQL 형태별 실행 횟수와 호출 위치를 보여주며 실패합니다.
+ */
+public class SqlBudget {
+
+    private final MockMvc mockMvc;
+
+    public SqlBudget(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    public ResultActions expectAtMost(int budget, MockHttpServletRequestBuilder request) throws Exception {
+        try (SqlCapture capture = SqlCapture.begin()) {
+            ResultActions result = mockMvc.perform(request);
+            if (capture.count() > budget) {
+                MockHttpServletRequest servletRequest = result.andReturn().getRequest();
+                String query = servletRequest.getQueryString() != null ? "?" + servletRequest.getQueryString() : "";
+                throw new AssertionError(servletRequest.getMethod() + " " + servletRequest.getRequestURI() + query
+                        + ": SQL " + capture.count() + "회 실행 (예산 " + budget + "회)\n" + describe(capture));
+            }
+            return result;
+        }
+    }
+
+    private static String describe(SqlCapture capture) {
+        StringBuilder message = new StringBuilder();
+        for (Map.Entry<String, List<SqlCapture.Statement>> entry : capture.byShape().entrySet()) {
+            Set<String> callSites = new LinkedHashSet<>();
+            entry.getValue().forEach(statement -> callSites.add(statement.callSite()));
+            message.append("  ").append(entry.getValue().size()).append("회 ").append(callSites)
+                    .append("\n    ").append(entry.getKey()).append('\n');
+        }
+        return message.toString();
+    }
+}